@@ -0,0 +1,42 @@
+package com.sample.poc.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.sample.poc.domain.model.Task;
+import com.sample.poc.domain.model.TaskList;
+
+/**
+ * Detached entities shaped like production rows, shared by the benchmarks.
+ */
+final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    static TaskList taskList(int tasks) {
+        LocalDateTime now = LocalDateTime.now();
+        TaskList taskList = TaskList.builder()
+                .id(1L)
+                .name("Trabalho")
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+
+        List<Task> items = new ArrayList<>(tasks);
+        for (int i = 0; i < tasks; i++) {
+            items.add(Task.builder()
+                    .id((long) i)
+                    .title("Tarefa " + i)
+                    .description("Descrição da tarefa " + i + " com um texto de tamanho típico")
+                    .completed(i % 3 == 0)
+                    .createdAt(now.minusMinutes(i))
+                    .updatedAt(now)
+                    .taskList(taskList)
+                    .build());
+        }
+        taskList.setTasks(items);
+        return taskList;
+    }
+}
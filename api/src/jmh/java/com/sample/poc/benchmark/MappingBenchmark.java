@@ -0,0 +1,65 @@
+package com.sample.poc.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.sample.poc.application.dto.TaskListResponse;
+import com.sample.poc.application.dto.TaskResponse;
+import com.sample.poc.domain.model.Task;
+import com.sample.poc.domain.model.TaskList;
+
+/**
+ * Entity to DTO mapping, per element and over a whole list.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MappingBenchmark {
+
+    @Param({"10", "1000"})
+    private int tasks;
+
+    private TaskList taskList;
+    private Task task;
+
+    @Setup
+    public void setUp() {
+        taskList = BenchmarkData.taskList(tasks);
+        task = taskList.getTasks().get(0);
+    }
+
+    @Benchmark
+    public TaskResponse fromTask() {
+        return TaskResponse.fromTask(task);
+    }
+
+    @Benchmark
+    public List<TaskResponse> fromTaskList_AllTasks() {
+        List<TaskResponse> responses = new ArrayList<>(taskList.getTasks().size());
+        for (Task item : taskList.getTasks()) {
+            responses.add(TaskResponse.fromTask(item));
+        }
+        return responses;
+    }
+
+    @Benchmark
+    public TaskListResponse fromTaskList() {
+        return TaskListResponse.fromTaskList(taskList);
+    }
+}
@@ -0,0 +1,57 @@
+package com.sample.poc.benchmark;
+
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.sample.poc.application.dto.TaskResponse;
+
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Jackson serialization of {@code GET /api/tasks/tasklist/{id}}-sized
+ * payloads, to a String and streamed to a discarding output.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    @Param({"100", "10000"})
+    private int tasks;
+
+    private ObjectMapper objectMapper;
+    private List<TaskResponse> payload;
+
+    @Setup
+    public void setUp() {
+        objectMapper = JsonMapper.builder().build();
+        payload = BenchmarkData.taskList(tasks).getTasks().stream().map(TaskResponse::fromTask).toList();
+    }
+
+    @Benchmark
+    public String writeValueAsString() {
+        return objectMapper.writeValueAsString(payload);
+    }
+
+    @Benchmark
+    public void writeToStream() {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), payload);
+    }
+}
@@ -14,6 +14,8 @@ public class AuthResponse {
     private String accessToken;
     private String type;
     private long expiresIn;
+    private String refreshToken;
+    private long refreshExpiresIn;
 
     public AuthResponse(String name, String accessToken, long expiresIn) {
         this.name = name;
@@ -21,4 +23,10 @@ public class AuthResponse {
         this.type = "Bearer";
         this.expiresIn = expiresIn;
     }
+
+    public AuthResponse(String name, String accessToken, long expiresIn, String refreshToken, long refreshExpiresIn) {
+        this(name, accessToken, expiresIn);
+        this.refreshToken = refreshToken;
+        this.refreshExpiresIn = refreshExpiresIn;
+    }
 }
@@ -0,0 +1,24 @@
+package com.sample.poc.application.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchOperationResult {
+    public static final String OK = "OK";
+    public static final String FAILED = "FAILED";
+
+    private int index;
+    private BatchTaskOperation.Type op;
+    private String status;
+    private int affected;
+    private List<Long> notFound;
+    private String error;
+}
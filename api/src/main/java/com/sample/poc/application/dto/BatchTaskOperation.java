@@ -0,0 +1,41 @@
+package com.sample.poc.application.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One operation of a batch. UPDATE applies the non-null fields to every id,
+ * e.g. {@code {"op":"UPDATE","ids":[1,2,3],"completed":true}}; DELETE removes them.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchTaskOperation {
+
+    public enum Type {
+        UPDATE,
+        DELETE
+    }
+
+    @NotNull(message = "A operação é obrigatória")
+    private Type op;
+
+    @NotEmpty(message = "Informe ao menos um id")
+    private List<Long> ids;
+
+    @Size(min = 1, max = 255, message = "O título deve ter entre 1 e 255 caracteres")
+    private String title;
+
+    @Size(max = 2000, message = "A descrição não pode exceder 2000 caracteres")
+    private String description;
+
+    private Boolean completed;
+}
@@ -0,0 +1,21 @@
+package com.sample.poc.application.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchTaskRequest {
+
+    @NotEmpty(message = "Informe ao menos uma operação")
+    @Valid
+    private List<BatchTaskOperation> operations;
+}
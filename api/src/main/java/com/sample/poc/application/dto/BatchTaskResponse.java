@@ -0,0 +1,17 @@
+package com.sample.poc.application.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchTaskResponse {
+    private int affected;
+    private List<BatchOperationResult> results;
+}
@@ -0,0 +1,28 @@
+package com.sample.poc.application.dto;
+
+import java.time.LocalDateTime;
+
+import com.sample.poc.domain.model.Tombstone;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DeletedEntry {
+    private Tombstone.EntityType type;
+    private Long id;
+    private LocalDateTime deletedAt;
+
+    public static DeletedEntry fromTombstone(Tombstone tombstone) {
+        return DeletedEntry.builder()
+                .type(tombstone.getEntityType())
+                .id(tombstone.getEntityId())
+                .deletedAt(tombstone.getDeletedAt())
+                .build();
+    }
+}
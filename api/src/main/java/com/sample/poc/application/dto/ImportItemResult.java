@@ -0,0 +1,28 @@
+package com.sample.poc.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportItemResult {
+    public static final String CREATED = "CREATED";
+    public static final String FAILED = "FAILED";
+
+    private int index;
+    private String status;
+    private Long id;
+    private String error;
+
+    public static ImportItemResult created(int index, Long id) {
+        return new ImportItemResult(index, CREATED, id, null);
+    }
+
+    public static ImportItemResult failed(int index, String error) {
+        return new ImportItemResult(index, FAILED, null, error);
+    }
+}
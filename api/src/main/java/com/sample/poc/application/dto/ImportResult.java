@@ -0,0 +1,19 @@
+package com.sample.poc.application.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportResult {
+    private int total;
+    private int imported;
+    private int failed;
+    private List<ImportItemResult> items;
+}
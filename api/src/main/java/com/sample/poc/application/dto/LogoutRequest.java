@@ -0,0 +1,15 @@
+package com.sample.poc.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LogoutRequest {
+
+    private String refreshToken;
+}
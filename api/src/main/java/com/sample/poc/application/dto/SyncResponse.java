@@ -0,0 +1,27 @@
+package com.sample.poc.application.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One page of changes. Clients upsert {@code taskLists} and {@code tasks} by
+ * id, then apply {@code deleted} (a deleted list takes its tasks with it),
+ * and send {@code nextToken} on the next call; when {@code hasMore} is true
+ * they call again right away. Rows near the end of the previous window may be
+ * sent twice, so applying a page must be idempotent.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SyncResponse {
+    private List<TaskListResponse> taskLists;
+    private List<TaskResponse> tasks;
+    private List<DeletedEntry> deleted;
+    private String nextToken;
+    private boolean hasMore;
+}
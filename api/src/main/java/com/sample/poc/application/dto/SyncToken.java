@@ -0,0 +1,58 @@
+package com.sample.poc.application.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Where a client stands in each change stream of the delta sync: lists,
+ * tasks and tombstones, each as a (changeSeq, id) keyset position, plus when
+ * the tombstone stream was last read to its end, which decides whether
+ * tombstones the client still needs may have been purged. Clients only see
+ * it as an opaque token.
+ */
+public record SyncToken(LocalDateTime deletedCheckedAt, Position taskLists, Position tasks, Position deleted) {
+
+    private static final String SEPARATOR = "|";
+
+    public record Position(long seq, long id) {
+
+        public static Position from(long seq) {
+            return new Position(seq, 0L);
+        }
+    }
+
+    /**
+     * Start of a full sync: every live row, and only deletions committed after
+     * {@code lastCommitted}.
+     */
+    public static SyncToken initial(long lastCommitted, LocalDateTime now) {
+        Position beginning = Position.from(0L);
+        return new SyncToken(now, beginning, beginning, Position.from(lastCommitted));
+    }
+
+    public String encode() {
+        String raw = deletedCheckedAt + SEPARATOR
+                + taskLists.seq() + SEPARATOR + taskLists.id() + SEPARATOR
+                + tasks.seq() + SEPARATOR + tasks.id() + SEPARATOR
+                + deleted.seq() + SEPARATOR + deleted.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SyncToken decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 7) {
+                throw new IllegalArgumentException("Token de sincronização inválido");
+            }
+            return new SyncToken(LocalDateTime.parse(parts[0]),
+                    new Position(Long.parseLong(parts[1]), Long.parseLong(parts[2])),
+                    new Position(Long.parseLong(parts[3]), Long.parseLong(parts[4])),
+                    new Position(Long.parseLong(parts[5]), Long.parseLong(parts[6])));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Token de sincronização inválido", e);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.sample.poc.application.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.sample.poc.domain.model.Task;
+
+/**
+ * Position of a task in the (completed, createdAt, id) order used by the keyset
+ * pagination of a task list. Clients only see it as an opaque token.
+ */
+public record TaskCursor(boolean completed, LocalDateTime createdAt, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static TaskCursor of(Task task) {
+        return new TaskCursor(Boolean.TRUE.equals(task.getCompleted()), task.getCreatedAt(), task.getId());
+    }
+
+    public String encode() {
+        String raw = completed + SEPARATOR + createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Cursor inválido");
+            }
+            return new TaskCursor(Boolean.parseBoolean(parts[0]), LocalDateTime.parse(parts[1]),
+                    Long.valueOf(parts[2]));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor inválido", e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.sample.poc.application.dto;
+
+import java.time.LocalDateTime;
+
+import com.sample.poc.domain.model.Task;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskExportRecord {
+    public static final String TYPE = "task";
+
+    @Builder.Default
+    private String type = TYPE;
+    private Long id;
+    private Long taskListId;
+    private String title;
+    private String description;
+    private Boolean completed;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static TaskExportRecord fromTask(Task task) {
+        return TaskExportRecord.builder()
+                .id(task.getId())
+                // Reading the id of the lazy proxy does not initialize it.
+                .taskListId(task.getTaskList() != null ? task.getTaskList().getId() : null)
+                .title(task.getTitle())
+                .description(task.getDescription())
+                .completed(task.getCompleted())
+                .createdAt(task.getCreatedAt())
+                .updatedAt(task.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,34 @@
+package com.sample.poc.application.dto;
+
+import java.time.LocalDateTime;
+
+import com.sample.poc.domain.model.TaskList;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskListExportRecord {
+    public static final String TYPE = "taskList";
+
+    @Builder.Default
+    private String type = TYPE;
+    private Long id;
+    private String name;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static TaskListExportRecord fromTaskList(TaskList taskList) {
+        return TaskListExportRecord.builder()
+                .id(taskList.getId())
+                .name(taskList.getName())
+                .createdAt(taskList.getCreatedAt())
+                .updatedAt(taskList.getUpdatedAt())
+                .build();
+    }
+}
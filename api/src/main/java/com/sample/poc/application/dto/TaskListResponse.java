@@ -3,6 +3,7 @@ package com.sample.poc.application.dto;
 import java.time.LocalDateTime;
 
 import com.sample.poc.domain.model.TaskList;
+import com.sample.poc.domain.repository.TaskListSummary;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -20,6 +21,7 @@ public class TaskListResponse {
   private LocalDateTime createdAt;
   private LocalDateTime updatedAt;
   private Integer taskCount;
+  private Integer completedCount;
 
   public static TaskListResponse fromTaskList(TaskList taskList) {
     return TaskListResponse.builder()
@@ -30,4 +32,32 @@ public class TaskListResponse {
         .taskCount(taskList.getTasks() != null ? taskList.getTasks().size() : 0)
         .build();
   }
+
+  /**
+   * List columns only, without touching the lazy {@code tasks} collection;
+   * the counts are left null.
+   */
+  public static TaskListResponse fromTaskListWithoutCounts(TaskList taskList) {
+    return TaskListResponse.builder()
+        .id(taskList.getId())
+        .name(taskList.getName())
+        .createdAt(taskList.getCreatedAt())
+        .updatedAt(taskList.getUpdatedAt())
+        .build();
+  }
+
+  public static TaskListResponse fromSummary(TaskListSummary summary) {
+    return TaskListResponse.builder()
+        .id(summary.getId())
+        .name(summary.getName())
+        .createdAt(summary.getCreatedAt())
+        .updatedAt(summary.getUpdatedAt())
+        .taskCount(toInt(summary.getTaskCount()))
+        .completedCount(toInt(summary.getCompletedCount()))
+        .build();
+  }
+
+  private static int toInt(Long value) {
+    return value != null ? value.intValue() : 0;
+  }
 }
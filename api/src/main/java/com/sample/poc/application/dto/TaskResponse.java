@@ -20,6 +20,7 @@ public class TaskResponse {
     private Boolean completed;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long taskListId;
 
     public static TaskResponse fromTask(Task task) {
         return TaskResponse.builder()
@@ -29,6 +30,8 @@ public class TaskResponse {
                 .completed(task.getCompleted())
                 .createdAt(task.getCreatedAt())
                 .updatedAt(task.getUpdatedAt())
+                // Reads the id off the lazy proxy without initializing it.
+                .taskListId(task.getTaskList() != null ? task.getTaskList().getId() : null)
                 .build();
     }
 }
@@ -0,0 +1,10 @@
+package com.sample.poc.application.dto;
+
+import com.sample.poc.domain.repository.ResourceVersion;
+
+/**
+ * A response body together with the version it was rendered from, so the
+ * controller can send an {@code ETag} without another query.
+ */
+public record Versioned<T>(T body, ResourceVersion version) {
+}
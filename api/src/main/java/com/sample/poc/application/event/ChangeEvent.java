@@ -0,0 +1,33 @@
+package com.sample.poc.application.event;
+
+import java.util.List;
+
+/**
+ * A committed change to a user's tasks or task lists, published by the
+ * services and fanned out to that user's open change feeds once the
+ * transaction commits. {@code ids} lists the affected rows; it is empty when
+ * too many changed to list (an import), and the client should reload the
+ * list instead.
+ */
+public record ChangeEvent(Long userId, Entity entity, Action action, Long taskListId, List<Long> ids) {
+
+  public enum Entity {
+    TASK, TASK_LIST
+  }
+
+  public enum Action {
+    CREATED, UPDATED, DELETED
+  }
+
+  public static ChangeEvent tasks(Long userId, Action action, Long taskListId, List<Long> ids) {
+    return new ChangeEvent(userId, Entity.TASK, action, taskListId, List.copyOf(ids));
+  }
+
+  public static ChangeEvent task(Long userId, Action action, Long taskListId, Long id) {
+    return new ChangeEvent(userId, Entity.TASK, action, taskListId, List.of(id));
+  }
+
+  public static ChangeEvent taskList(Long userId, Action action, Long taskListId) {
+    return new ChangeEvent(userId, Entity.TASK_LIST, action, taskListId, List.of(taskListId));
+  }
+}
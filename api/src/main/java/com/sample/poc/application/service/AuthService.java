@@ -1,5 +1,6 @@
 package com.sample.poc.application.service;
 
+import java.time.Instant;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,11 +13,15 @@ import org.springframework.stereotype.Service;
 
 import com.sample.poc.application.dto.AuthResponse;
 import com.sample.poc.application.dto.LoginRequest;
+import com.sample.poc.application.dto.RefreshTokenRequest;
 import com.sample.poc.application.dto.RegisterRequest;
 import com.sample.poc.domain.model.User;
 import com.sample.poc.domain.repository.UserRepository;
+import com.sample.poc.infrastructure.security.JwtClaims;
 import com.sample.poc.infrastructure.security.JwtUtil;
+import com.sample.poc.infrastructure.security.TokenDenyList;
 import com.sample.poc.presentation.exception.EmailAlreadyExistsException;
+import com.sample.poc.presentation.exception.ResourceNotFoundException;
 
 @Service
 public class AuthService {
@@ -33,6 +38,12 @@ public class AuthService {
     @Autowired
     private JwtUtil jwtTokenProvider;
 
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private TokenDenyList tokenDenyList;
+
     public void register(RegisterRequest registerRequest) {
         if (userRepository.existsByEmail(registerRequest.getEmail())) {
             throw new EmailAlreadyExistsException("Email já em uso: " + registerRequest.getEmail());
@@ -55,13 +66,59 @@ public class AuthService {
                             loginRequest.getPassword()));
 
             String email = authentication.getName();
-            String accessToken = jwtTokenProvider.generateAccessToken(email);
-
             Optional<User> user = userRepository.findByEmail(email);
+            String accessToken = jwtTokenProvider.generateAccessToken(email, user.get().getId());
+
+            RefreshTokenService.IssuedToken refreshToken = refreshTokenService.issue(user.get());
+
             String nome = user.get().getName();
-            return new AuthResponse(nome, accessToken, jwtTokenProvider.getJwtExpirationMs());
+            return new AuthResponse(nome, accessToken, jwtTokenProvider.getJwtExpirationMs(),
+                    refreshToken.token(), refreshToken.expiresInMs());
         } catch (AuthenticationException e) {
             throw new RuntimeException("Email ou senha inválidos", e);
         }
     }
+
+    /**
+     * Exchanges a refresh token for a new access token and a rotated refresh
+     * token, without going through the password check.
+     */
+    public AuthResponse refresh(RefreshTokenRequest refreshTokenRequest) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshTokenRequest.getRefreshToken());
+
+        User user = rotation.user();
+        String accessToken = jwtTokenProvider.generateAccessToken(user.getEmail(), user.getId());
+        return new AuthResponse(user.getName(), accessToken, jwtTokenProvider.getJwtExpirationMs(),
+                rotation.next().token(), rotation.next().expiresInMs());
+    }
+
+    /**
+     * Revokes the access token the request was made with and, when given, the
+     * refresh token the client holds.
+     */
+    public void logout(JwtClaims claims, String refreshToken) {
+        tokenDenyList.revoke(claims.tokenId(), claims.userId(), claims.expiresAt());
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            refreshTokenService.revoke(refreshToken);
+        }
+    }
+
+    /**
+     * Revokes a single access token by its {@code jti}. The expiry isn't known
+     * here, so the entry is kept for the longest an access token can live.
+     */
+    public void revokeToken(String tokenId) {
+        tokenDenyList.revoke(tokenId, null, Instant.now().plusMillis(jwtTokenProvider.getJwtExpirationMs()));
+    }
+
+    /**
+     * Revokes every refresh token of the user. Access tokens already issued
+     * can't be enumerated, so they lapse on their own expiry.
+     */
+    public int revokeUserTokens(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("Usuário não encontrado com o id: " + userId);
+        }
+        return refreshTokenService.revokeAll(userId);
+    }
 }
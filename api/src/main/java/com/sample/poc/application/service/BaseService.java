@@ -1,11 +1,16 @@
 package com.sample.poc.application.service;
 
+import java.util.Optional;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import com.sample.poc.domain.model.User;
 import com.sample.poc.domain.repository.UserRepository;
+import com.sample.poc.infrastructure.cache.CachedUser;
+import com.sample.poc.infrastructure.cache.UserCache;
+import com.sample.poc.infrastructure.security.AuthenticatedUser;
 import com.sample.poc.presentation.exception.ResourceNotFoundException;
 import com.sample.poc.presentation.exception.UnauthorizedException;
 
@@ -14,14 +19,30 @@ public class BaseService {
   @Autowired
   protected UserRepository userRepository;
 
+  @Autowired
+  protected UserCache userCache;
+
   protected User getCurrentUser() {
     Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
     if (authentication == null || !authentication.isAuthenticated()) {
       throw new UnauthorizedException("Usuário não autenticado");
     }
 
+    // Stateless principal: the id comes from the verified token, so a lazy
+    // reference is enough for ownership checks and FK assignments.
+    if (authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+      return userRepository.getReferenceById(principal.id());
+    }
+
     String email = authentication.getName();
-    return userRepository.findByEmail(email)
+    Optional<CachedUser> cached = userCache.get(email);
+    if (cached.isPresent()) {
+      return userRepository.getReferenceById(cached.get().id());
+    }
+
+    User user = userRepository.findByEmail(email)
         .orElseThrow(() -> new ResourceNotFoundException("Usuário não encontrado com o email: " + email));
+    userCache.put(user);
+    return user;
   }
 }
@@ -0,0 +1,152 @@
+package com.sample.poc.application.service;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.sample.poc.application.event.ChangeEvent;
+import com.sample.poc.infrastructure.config.AsyncConfig;
+import com.sample.poc.infrastructure.invalidation.InvalidationMessage;
+import com.sample.poc.infrastructure.sse.SseConnection;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Per-user Server-Sent Events feed of committed task and task list changes.
+ * Events are handed over only after the publishing transaction commits, and
+ * only queued on the request thread; each connection has a bounded buffer
+ * drained by {@link AsyncConfig#CHANGE_FEED_EXECUTOR}, so a slow client can
+ * lose events (and is told to resync) but never slows down a write.
+ */
+@Service
+public class ChangeFeedService extends BaseService {
+
+  public static final String CHANGE_EVENT = "change";
+
+  private final Map<Long, Queue<SseConnection>> connections = new ConcurrentHashMap<>();
+  private final AtomicInteger open = new AtomicInteger();
+
+  private final Executor executor;
+  private final long timeoutMs;
+  private final int bufferSize;
+  private final int maxConnectionsPerUser;
+  private final Counter dropped;
+
+  public ChangeFeedService(@Qualifier(AsyncConfig.CHANGE_FEED_EXECUTOR) Executor executor,
+      MeterRegistry meterRegistry,
+      @Value("${app.sse.timeout:1800000}") long timeoutMs,
+      @Value("${app.sse.buffer-size:100}") int bufferSize,
+      @Value("${app.sse.max-connections-per-user:5}") int maxConnectionsPerUser) {
+    this.executor = executor;
+    this.timeoutMs = timeoutMs;
+    this.bufferSize = bufferSize;
+    this.maxConnectionsPerUser = maxConnectionsPerUser;
+    this.dropped = Counter.builder("sse.buffer.overflows")
+        .description("Change feed buffers discarded because the client fell behind")
+        .register(meterRegistry);
+    meterRegistry.gauge("sse.connections", open);
+  }
+
+  /**
+   * Opens a feed for the current user. Past the per-user limit the oldest
+   * connection is closed, since it most likely belongs to a stale tab.
+   */
+  public SseEmitter subscribe() {
+    Long userId = getCurrentUser().getId();
+    SseEmitter emitter = new SseEmitter(timeoutMs);
+    SseConnection connection = new SseConnection(emitter, bufferSize, executor, dropped::increment);
+
+    // Added inside compute() so a concurrent remove() can't drop the queue in between.
+    Queue<SseConnection> userConnections = connections.compute(userId, (id, queue) -> {
+      Queue<SseConnection> target = queue != null ? queue : new ConcurrentLinkedQueue<>();
+      target.add(connection);
+      return target;
+    });
+    open.incrementAndGet();
+    while (userConnections.size() > maxConnectionsPerUser) {
+      SseConnection oldest = userConnections.poll();
+      if (oldest != null) {
+        open.decrementAndGet();
+        oldest.close();
+      }
+    }
+
+    emitter.onCompletion(() -> remove(userId, connection));
+    emitter.onTimeout(connection::close);
+    emitter.onError(error -> connection.close());
+    connection.offer(SseEmitter.event().name("ready").data(""));
+    return emitter;
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onChange(ChangeEvent event) {
+    deliver(event);
+  }
+
+  /**
+   * Feeds on this node also get the changes committed on other nodes. After
+   * a gap in the notifications every client is told to resync.
+   */
+  @EventListener
+  public void onInvalidation(InvalidationMessage message) {
+    switch (message.type()) {
+      case CHANGE -> deliver(message.change());
+      case ALL -> connections.values().forEach(userConnections -> userConnections.forEach(
+          connection -> connection.offer(SseEmitter.event().name(SseConnection.RESYNC_EVENT).data(""))));
+      default -> {
+      }
+    }
+  }
+
+  /**
+   * Keeps idle connections open through proxies and surfaces dead ones, whose
+   * failed write closes them.
+   */
+  @Scheduled(fixedDelayString = "${app.sse.heartbeat-interval:15000}")
+  public void heartbeat() {
+    connections.values().forEach(userConnections ->
+        userConnections.forEach(connection -> connection.offer(SseEmitter.event().comment("ping"))));
+  }
+
+  public int getOpenConnections() {
+    return open.get();
+  }
+
+  @PreDestroy
+  void shutdown() {
+    connections.values().forEach(userConnections -> userConnections.forEach(SseConnection::close));
+  }
+
+  private void deliver(ChangeEvent event) {
+    Queue<SseConnection> userConnections = connections.get(event.userId());
+    if (userConnections == null) {
+      return;
+    }
+    for (SseConnection connection : userConnections) {
+      connection.offer(SseEmitter.event().name(CHANGE_EVENT).data(event, MediaType.APPLICATION_JSON));
+    }
+  }
+
+  private void remove(Long userId, SseConnection connection) {
+    Queue<SseConnection> userConnections = connections.get(userId);
+    if (userConnections != null && userConnections.remove(connection)) {
+      open.decrementAndGet();
+      connections.computeIfPresent(userId, (id, queue) -> queue.isEmpty() ? null : queue);
+    }
+  }
+}
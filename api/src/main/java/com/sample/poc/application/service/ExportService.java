@@ -0,0 +1,91 @@
+package com.sample.poc.application.service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.stream.Stream;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.sample.poc.application.dto.TaskExportRecord;
+import com.sample.poc.application.dto.TaskListExportRecord;
+import com.sample.poc.domain.model.Task;
+import com.sample.poc.domain.model.TaskList;
+import com.sample.poc.domain.model.User;
+import com.sample.poc.domain.repository.TaskListRepository;
+import com.sample.poc.domain.repository.TaskRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Streams every list and task of the current user as newline-delimited JSON.
+ * Rows come from forward-only cursors and are detached as soon as they are
+ * written, so memory use does not grow with the size of the account.
+ */
+@Service
+public class ExportService extends BaseService {
+
+  private static final int BUFFER_SIZE = 8192;
+  private static final byte NEWLINE = '\n';
+
+  @Autowired
+  private TaskListRepository taskListRepository;
+
+  @Autowired
+  private TaskRepository taskRepository;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  /**
+   * Writes all task lists first, then all tasks grouped by list.
+   */
+  @Transactional(readOnly = true)
+  public void exportCurrentUser(OutputStream outputStream) throws IOException {
+    User currentUser = getCurrentUser();
+    OutputStream out = new BufferedOutputStream(outputStream, BUFFER_SIZE);
+    // The queries' cache-mode hint only lasts while they execute; streamed rows
+    // are loaded afterwards, so keep them out of the second-level cache here.
+    entityManager.unwrap(Session.class).setCacheMode(CacheMode.IGNORE);
+
+    try {
+      try (Stream<TaskList> taskLists = taskListRepository.streamByUser(currentUser)) {
+        taskLists.forEach(taskList -> {
+          writeLine(out, TaskListExportRecord.fromTaskList(taskList));
+          entityManager.detach(taskList);
+        });
+      }
+
+      try (Stream<Task> tasks = taskRepository.streamByUser(currentUser)) {
+        tasks.forEach(task -> {
+          writeLine(out, TaskExportRecord.fromTask(task));
+          entityManager.detach(task);
+        });
+      }
+    } catch (UncheckedIOException e) {
+      // Usually the client went away mid-stream.
+      throw e.getCause();
+    }
+
+    out.flush();
+  }
+
+  private void writeLine(OutputStream out, Object record) {
+    try {
+      out.write(objectMapper.writeValueAsBytes(record));
+      out.write(NEWLINE);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,124 @@
+package com.sample.poc.application.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.sample.poc.domain.model.RefreshToken;
+import com.sample.poc.domain.model.User;
+import com.sample.poc.domain.repository.RefreshTokenRepository;
+import com.sample.poc.presentation.exception.UnauthorizedException;
+
+/**
+ * Issues and rotates opaque refresh tokens. A refresh costs one indexed lookup
+ * and two small writes instead of a BCrypt check; every use rotates the token,
+ * and presenting an already rotated token revokes its whole family.
+ */
+@Service
+public class RefreshTokenService {
+
+  private static final int TOKEN_BYTES = 32;
+
+  private final SecureRandom secureRandom = new SecureRandom();
+
+  @Autowired
+  private RefreshTokenRepository refreshTokenRepository;
+
+  @Value("${app.jwt.refresh-expiration}")
+  private long refreshExpirationMs;
+
+  public record IssuedToken(String token, long expiresInMs) {
+  }
+
+  public record Rotation(User user, IssuedToken next) {
+  }
+
+  /**
+   * Starts a new token family, on login.
+   */
+  @Transactional
+  public IssuedToken issue(User user) {
+    return create(user, UUID.randomUUID().toString());
+  }
+
+  /**
+   * Consumes {@code rawToken} and returns its successor together with the owner.
+   * Family revocation on reuse must survive the 401, hence no rollback for it.
+   */
+  @Transactional(noRollbackFor = UnauthorizedException.class)
+  public Rotation rotate(String rawToken) {
+    RefreshToken current = refreshTokenRepository.findByTokenHashWithUser(hash(rawToken))
+        .orElseThrow(RefreshTokenService::invalid);
+
+    if (current.getRevoked() || refreshTokenRepository.revokeIfActive(current.getId()) == 0) {
+      // Already rotated: either a replay of a stolen token or a lost race. Either way the chain is burnt.
+      refreshTokenRepository.revokeFamily(current.getFamilyId());
+      throw invalid();
+    }
+    if (current.getExpiresAt().isBefore(LocalDateTime.now())) {
+      throw invalid();
+    }
+
+    User user = current.getUser();
+    return new Rotation(user, create(user, current.getFamilyId()));
+  }
+
+  @Transactional
+  public void revoke(String rawToken) {
+    refreshTokenRepository.findByTokenHashWithUser(hash(rawToken))
+        .ifPresent(token -> refreshTokenRepository.revokeIfActive(token.getId()));
+  }
+
+  @Transactional
+  public int revokeAll(Long userId) {
+    return refreshTokenRepository.revokeAllByUserId(userId);
+  }
+
+  @Scheduled(fixedDelayString = "${app.jwt.refresh-cleanup-interval:3600000}")
+  @Transactional
+  public void deleteExpired() {
+    refreshTokenRepository.deleteExpired(LocalDateTime.now());
+  }
+
+  private IssuedToken create(User user, String familyId) {
+    byte[] bytes = new byte[TOKEN_BYTES];
+    secureRandom.nextBytes(bytes);
+    String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+    refreshTokenRepository.save(RefreshToken.builder()
+        .tokenHash(hash(token))
+        .familyId(familyId)
+        .user(user)
+        .expiresAt(LocalDateTime.now().plusNanos(refreshExpirationMs * 1_000_000))
+        .build());
+    return new IssuedToken(token, refreshExpirationMs);
+  }
+
+  // Tokens are 256 random bits, so a fast unsalted hash is enough to keep them out of the database.
+  private static String hash(String token) {
+    if (token == null || token.isBlank()) {
+      throw invalid();
+    }
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static UnauthorizedException invalid() {
+    return new UnauthorizedException("Refresh token inválido ou expirado");
+  }
+}
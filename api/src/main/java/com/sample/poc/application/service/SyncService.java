@@ -0,0 +1,129 @@
+package com.sample.poc.application.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.sample.poc.application.dto.DeletedEntry;
+import com.sample.poc.application.dto.SyncResponse;
+import com.sample.poc.application.dto.SyncToken;
+import com.sample.poc.application.dto.TaskListResponse;
+import com.sample.poc.application.dto.TaskResponse;
+import com.sample.poc.domain.model.ChangeTracked;
+import com.sample.poc.domain.model.Task;
+import com.sample.poc.domain.model.TaskList;
+import com.sample.poc.domain.model.Tombstone;
+import com.sample.poc.domain.model.User;
+import com.sample.poc.domain.repository.TaskListRepository;
+import com.sample.poc.domain.repository.TaskRepository;
+import com.sample.poc.domain.repository.TombstoneRepository;
+import com.sample.poc.infrastructure.persistence.ChangeSequence;
+import com.sample.poc.presentation.exception.SyncTokenExpiredException;
+
+/**
+ * Delta sync: the task lists, tasks and tombstones of the current user
+ * committed after the client's token, each read as a keyset range scan on an
+ * (owner, changeSeq, id) index.
+ * <p>
+ * {@code changeSeq} is assigned in commit order by {@link ChangeSequence}, so
+ * once a client has seen a sequence every lower one is already visible, and
+ * positions can move straight to the last row returned.
+ */
+@Service
+@Transactional(readOnly = true)
+public class SyncService extends BaseService {
+
+  public static final int DEFAULT_LIMIT = 500;
+  public static final int MAX_LIMIT = 1000;
+
+  @Autowired
+  private TaskListRepository taskListRepository;
+
+  @Autowired
+  private TaskRepository taskRepository;
+
+  @Autowired
+  private TombstoneRepository tombstoneRepository;
+
+  @Autowired
+  private ChangeSequence changeSequence;
+
+  @Value("${app.sync.tombstone-retention:2592000000}")
+  private long tombstoneRetentionMs;
+
+  /**
+   * Changes after {@code since}, or a full snapshot of the live rows when it
+   * is null. At most {@code limit} rows per stream are returned.
+   */
+  public SyncResponse sync(String since, Integer limit) {
+    User currentUser = getCurrentUser();
+    LocalDateTime now = LocalDateTime.now();
+
+    SyncToken token = since == null || since.isBlank()
+        ? SyncToken.initial(changeSequence.lastCommitted(), now)
+        : SyncToken.decode(since);
+    if (token.deletedCheckedAt().isBefore(now.minus(Duration.ofMillis(tombstoneRetentionMs)))) {
+      throw new SyncTokenExpiredException(
+          "Token de sincronização expirado, é necessária uma sincronização completa");
+    }
+
+    int pageSize = limit == null || limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+    Limit fetch = Limit.of(pageSize + 1);
+
+    Page<TaskList> taskLists = new Page<>(taskListRepository.findChangedSince(currentUser.getId(),
+        token.taskLists().seq(), token.taskLists().id(), fetch), pageSize);
+    Page<Task> tasks = new Page<>(taskRepository.findChangedSince(currentUser.getId(),
+        token.tasks().seq(), token.tasks().id(), fetch), pageSize);
+    Page<Tombstone> deleted = new Page<>(tombstoneRepository.findChangedSince(currentUser.getId(),
+        token.deleted().seq(), token.deleted().id(), fetch), pageSize);
+
+    // Tombstones are purged by age, so the token remembers when the client last
+    // read them all rather than when it last called.
+    SyncToken next = new SyncToken(
+        deleted.hasMore() ? token.deletedCheckedAt() : now,
+        taskLists.next(token.taskLists()),
+        tasks.next(token.tasks()),
+        deleted.next(token.deleted()));
+
+    return SyncResponse.builder()
+        .taskLists(taskLists.rows().stream().map(TaskListResponse::fromTaskListWithoutCounts)
+            .collect(Collectors.toList()))
+        .tasks(tasks.rows().stream().map(TaskResponse::fromTask).collect(Collectors.toList()))
+        .deleted(deleted.rows().stream().map(DeletedEntry::fromTombstone).collect(Collectors.toList()))
+        .nextToken(next.encode())
+        .hasMore(taskLists.hasMore() || tasks.hasMore() || deleted.hasMore())
+        .build();
+  }
+
+  @Scheduled(fixedDelayString = "${app.sync.tombstone-cleanup-interval:3600000}")
+  @Transactional
+  public void deleteExpiredTombstones() {
+    tombstoneRepository.deleteOlderThan(LocalDateTime.now().minus(Duration.ofMillis(tombstoneRetentionMs)));
+  }
+
+  private record Page<T extends ChangeTracked>(List<T> rows, boolean hasMore) {
+
+    Page(List<T> fetched, int pageSize) {
+      this(fetched.size() > pageSize ? fetched.subList(0, pageSize) : fetched, fetched.size() > pageSize);
+    }
+
+    /**
+     * Right after the last row returned; unchanged when there was none.
+     */
+    SyncToken.Position next(SyncToken.Position since) {
+      if (rows.isEmpty()) {
+        return since;
+      }
+      T last = rows.get(rows.size() - 1);
+      return new SyncToken.Position(last.getChangeSeq(), last.getId());
+    }
+  }
+}
@@ -0,0 +1,233 @@
+package com.sample.poc.application.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sample.poc.application.dto.ImportItemResult;
+import com.sample.poc.application.dto.ImportResult;
+import com.sample.poc.application.dto.ImportTaskItem;
+import com.sample.poc.application.event.ChangeEvent;
+import com.sample.poc.domain.model.Task;
+import com.sample.poc.domain.model.TaskList;
+import com.sample.poc.domain.model.User;
+import com.sample.poc.domain.repository.TaskListRepository;
+import com.sample.poc.presentation.exception.ResourceNotFoundException;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+
+/**
+ * Bulk import of tasks into a list. Tasks are persisted in chunks of
+ * {@code hibernate.jdbc.batch_size}, flushed as JDBC batches and then cleared
+ * from the persistence context; invalid items are reported, not fatal.
+ */
+@Service
+public class TaskImportService extends BaseService {
+
+  @Autowired
+  private TaskListRepository taskListRepository;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Autowired
+  private Validator validator;
+
+  @Autowired
+  private ApplicationEventPublisher eventPublisher;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+  private int batchSize;
+
+  @Value("${app.import.max-items:10000}")
+  private int maxItems;
+
+  /**
+   * Imports a JSON array of tasks; invalid items fail on their own. The array
+   * is streamed item by item, so an upload over {@code app.import.max-items}
+   * is rejected as soon as the limit is crossed instead of after the whole
+   * body is in memory. As with {@link #importNdjson}, the upload is read and
+   * validated before the transaction starts.
+   */
+  public ImportResult importJson(Long taskListId, InputStream inputStream) {
+    List<ParsedItem> parsed = new ArrayList<>();
+    // The parser sits inside the array, so the rest of it is not a trailing token.
+    ObjectReader reader = objectMapper.readerFor(ImportTaskItem.class)
+        .without(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+
+    try (JsonParser parser = objectMapper.createParser(inputStream)) {
+      if (parser.nextToken() != JsonToken.START_ARRAY) {
+        throw new IllegalArgumentException("A importação espera um array JSON de tarefas");
+      }
+
+      JsonToken token;
+      while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+        if (token == null) {
+          throw new IllegalArgumentException("JSON inválido");
+        }
+        if (parsed.size() >= maxItems) {
+          throw new IllegalArgumentException("A importação aceita no máximo " + maxItems + " tarefas");
+        }
+
+        ImportTaskItem item = reader.readValue(parser);
+        parsed.add(new ParsedItem(item, validate(item)));
+      }
+    } catch (JacksonException e) {
+      throw new IllegalArgumentException("JSON inválido");
+    }
+
+    return persist(taskListId, parsed);
+  }
+
+  /**
+   * Same as {@link #importJson} for newline-delimited JSON; a malformed line
+   * fails only that item.
+   */
+  public ImportResult importNdjson(Long taskListId, InputStream inputStream) throws IOException {
+    List<ParsedItem> parsed = new ArrayList<>();
+    BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+
+    String line;
+    while ((line = reader.readLine()) != null) {
+      if (line.isBlank()) {
+        continue;
+      }
+      if (parsed.size() >= maxItems) {
+        throw new IllegalArgumentException("A importação aceita no máximo " + maxItems + " tarefas");
+      }
+
+      try {
+        ImportTaskItem item = objectMapper.readValue(line, ImportTaskItem.class);
+        parsed.add(new ParsedItem(item, validate(item)));
+      } catch (JacksonException e) {
+        parsed.add(new ParsedItem(null, "JSON inválido"));
+      }
+    }
+
+    return persist(taskListId, parsed);
+  }
+
+  /**
+   * Persists items already read and validated, in one transaction, so a slow
+   * client never holds a database connection.
+   */
+  private ImportResult persist(Long taskListId, List<ParsedItem> parsed) {
+    return new TransactionTemplate(transactionManager).execute(status -> {
+      Importer importer = new Importer(taskListId);
+      for (ParsedItem item : parsed) {
+        if (item.error() != null) {
+          importer.fail(item.error());
+        } else {
+          importer.persist(item.item());
+        }
+      }
+      return importer.finish();
+    });
+  }
+
+  /**
+   * Validation message for an item, or null when it can be imported.
+   */
+  private String validate(ImportTaskItem item) {
+    if (item == null) {
+      return "Item vazio";
+    }
+    Set<ConstraintViolation<ImportTaskItem>> violations = validator.validate(item);
+    if (violations.isEmpty()) {
+      return null;
+    }
+    return violations.stream().map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining("; "));
+  }
+
+  private record ParsedItem(ImportTaskItem item, String error) {
+  }
+
+  private class Importer {
+    private final Long userId;
+    private final Long taskListId;
+    private final List<ImportItemResult> results = new ArrayList<>();
+    private int imported;
+    private int pending;
+
+    Importer(Long taskListId) {
+      User currentUser = getCurrentUser();
+      if (!taskListRepository.existsByIdAndUser(taskListId, currentUser)) {
+        throw new ResourceNotFoundException("Lista de tarefas não encontrada com id: " + taskListId);
+      }
+      this.userId = currentUser.getId();
+      this.taskListId = taskListId;
+    }
+
+    void fail(String error) {
+      results.add(ImportItemResult.failed(results.size(), error));
+    }
+
+    void persist(ImportTaskItem item) {
+      Task task = Task.builder()
+          .title(item.getTitle())
+          .description(item.getDescription())
+          .completed(Boolean.TRUE.equals(item.getCompleted()))
+          // A proxy is enough for the FK and survives the periodic clear() below.
+          .taskList(entityManager.getReference(TaskList.class, taskListId))
+          .userId(userId)
+          .build();
+      entityManager.persist(task);
+      results.add(ImportItemResult.created(results.size(), task.getId()));
+      imported++;
+
+      if (++pending >= batchSize) {
+        flush();
+      }
+    }
+
+    ImportResult finish() {
+      flush();
+      if (imported > 0) {
+        // One event for the whole import; subscribers refetch the list instead of thousands of ids.
+        eventPublisher.publishEvent(ChangeEvent.tasks(userId, ChangeEvent.Action.CREATED, taskListId, List.of()));
+      }
+      return ImportResult.builder()
+          .total(results.size())
+          .imported(imported)
+          .failed(results.size() - imported)
+          .items(results)
+          .build();
+    }
+
+    private void flush() {
+      if (pending > 0) {
+        entityManager.flush();
+        entityManager.clear();
+        pending = 0;
+      }
+    }
+  }
+}
@@ -0,0 +1,90 @@
+package com.sample.poc.application.service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sample.poc.application.event.ChangeEvent;
+import com.sample.poc.domain.model.Tombstone;
+import com.sample.poc.domain.repository.TaskListRepository;
+import com.sample.poc.domain.repository.TaskRepository;
+import com.sample.poc.domain.repository.TombstoneRepository;
+import com.sample.poc.infrastructure.config.AsyncConfig;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Background deletion of large task lists. Tasks are removed in chunks, each in
+ * its own short transaction, so no lock or transaction stays open for the
+ * whole list. Ownership must be checked by the caller.
+ */
+@Service
+@Slf4j
+public class TaskListPurgeService {
+
+  @Autowired
+  private TaskListRepository taskListRepository;
+
+  @Autowired
+  private TaskRepository taskRepository;
+
+  @Autowired
+  private TombstoneRepository tombstoneRepository;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Autowired
+  private ApplicationEventPublisher eventPublisher;
+
+  @Value("${app.tasklists.purge.chunk-size:1000}")
+  private int chunkSize;
+
+  private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+  @Async(AsyncConfig.TASK_LIST_PURGE_EXECUTOR)
+  public void purge(Long taskListId) {
+    if (!inFlight.add(taskListId)) {
+      return;
+    }
+    try {
+      TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+      long deleted = 0;
+      int chunk;
+      do {
+        chunk = transaction.execute(status -> {
+          List<Long> ids = taskRepository.findIdsByTaskListId(taskListId, Limit.of(chunkSize));
+          return ids.isEmpty() ? 0 : taskRepository.deleteByIdIn(ids);
+        });
+        deleted += chunk;
+      } while (chunk == chunkSize);
+
+      // Tasks added while the chunks ran go together with the list itself.
+      transaction.executeWithoutResult(status -> {
+        Optional<Long> userId = taskListRepository.findUserIdById(taskListId);
+        taskRepository.deleteByTaskListId(taskListId);
+        taskListRepository.deleteListById(taskListId);
+        userId.ifPresent(id -> {
+          tombstoneRepository.save(Tombstone.of(Tombstone.EntityType.TASK_LIST, taskListId, id));
+          eventPublisher.publishEvent(ChangeEvent.taskList(id, ChangeEvent.Action.DELETED, taskListId));
+        });
+      });
+      log.info("Lista de tarefas {} removida ({} tarefas)", taskListId, deleted);
+    } catch (RuntimeException e) {
+      log.error("Falha ao remover a lista de tarefas {}", taskListId, e);
+      throw e;
+    } finally {
+      inFlight.remove(taskListId);
+    }
+  }
+}
@@ -1,20 +1,32 @@
 package com.sample.poc.application.service;
 
+import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.sample.poc.application.dto.CreateTaskListRequest;
 import com.sample.poc.application.dto.TaskListResponse;
 import com.sample.poc.application.dto.UpdateTaskListRequest;
+import com.sample.poc.application.dto.Versioned;
+import com.sample.poc.application.event.ChangeEvent;
 import com.sample.poc.domain.model.Task;
 import com.sample.poc.domain.model.TaskList;
+import com.sample.poc.domain.model.Tombstone;
 import com.sample.poc.domain.model.User;
+import com.sample.poc.domain.repository.ResourceVersion;
 import com.sample.poc.domain.repository.TaskListRepository;
+import com.sample.poc.domain.repository.TaskListSummary;
 import com.sample.poc.domain.repository.TaskRepository;
+import com.sample.poc.domain.repository.TombstoneRepository;
 import com.sample.poc.presentation.exception.EmailAlreadyExistsException;
 import com.sample.poc.presentation.exception.ResourceNotFoundException;
 
@@ -28,6 +40,15 @@ public class TaskListService extends BaseService {
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private TaskListPurgeService taskListPurgeService;
+
+    @Autowired
+    private TombstoneRepository tombstoneRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     public TaskListResponse createTaskList(CreateTaskListRequest request) {
         User currentUser = getCurrentUser();
 
@@ -47,29 +68,72 @@ public class TaskListService extends BaseService {
                 .build();
 
         TaskList savedTaskList = taskListRepository.save(taskList);
+        eventPublisher.publishEvent(
+                ChangeEvent.taskList(currentUser.getId(), ChangeEvent.Action.CREATED, savedTaskList.getId()));
         return TaskListResponse.fromTaskList(savedTaskList);
     }
 
     public List<TaskListResponse> getUserTaskLists() {
+        return getVersionedUserTaskLists().body();
+    }
+
+    /**
+     * The user's lists together with their version, derived from the same
+     * summary rows (see {@link TaskListRepository#findVersionByUser}).
+     */
+    @Transactional(readOnly = true)
+    public Versioned<List<TaskListResponse>> getVersionedUserTaskLists() {
         User currentUser = getCurrentUser();
-        List<TaskList> taskList = taskListRepository.findByUser(currentUser);
-        return taskList.stream()
-                .map(TaskListResponse::fromTaskList)
+        List<TaskListSummary> summaries = taskListRepository.findSummariesByUser(currentUser);
+
+        long count = summaries.size() + summaries.stream()
+                .mapToLong(summary -> summary.getTaskCount() != null ? summary.getTaskCount() : 0)
+                .sum();
+        LocalDateTime lastModified = summaries.stream()
+                .flatMap(summary -> Stream.of(summary.getUpdatedAt(), summary.getLastTaskUpdatedAt()))
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+
+        List<TaskListResponse> body = summaries.stream()
+                .map(TaskListResponse::fromSummary)
                 .collect(Collectors.toList());
+        return new Versioned<>(body, new ResourceVersion(count, lastModified));
+    }
+
+    @Transactional(readOnly = true)
+    public ResourceVersion getUserTaskListsVersion() {
+        return taskListRepository.findVersionByUser(getCurrentUser());
     }
 
     public TaskListResponse getTaskListById(Long id) {
+        return getVersionedTaskListById(id).body();
+    }
+
+    @Transactional(readOnly = true)
+    public Versioned<TaskListResponse> getVersionedTaskListById(Long id) {
         User currentUser = getCurrentUser();
 
-        TaskList taskList = taskListRepository.findByIdAndUser(id, currentUser)
+        TaskList taskList = taskListRepository.findWithTasksByIdAndUser(id, currentUser)
                 .orElseThrow(() -> new ResourceNotFoundException("Lista de tarefas não encontrada com id: " + id));
-        return TaskListResponse.fromTaskList(taskList);
+        int taskCount = taskList.getTasks() != null ? taskList.getTasks().size() : 0;
+        return new Versioned<>(TaskListResponse.fromTaskList(taskList),
+                ResourceVersion.of(taskCount, taskList.getUpdatedAt()));
+    }
+
+    /**
+     * Version of a list for conditional requests; empty when the list doesn't
+     * exist or isn't the user's, in which case the full read reports the 404.
+     */
+    @Transactional(readOnly = true)
+    public Optional<ResourceVersion> getTaskListVersion(Long id) {
+        return taskListRepository.findVersionByIdAndUser(id, getCurrentUser());
     }
 
     public TaskListResponse updateTaskList(Long id, UpdateTaskListRequest request) {
         User currentUser = getCurrentUser();
 
-        TaskList taskList = taskListRepository.findByIdAndUser(id, currentUser)
+        TaskList taskList = taskListRepository.findWithTasksByIdAndUser(id, currentUser)
             .orElseThrow(() -> new ResourceNotFoundException("Lista de tarefas não encontrada com id: " + id));
 
         if (request.getName() == null || request.getName().isBlank()) {
@@ -84,11 +148,34 @@ public class TaskListService extends BaseService {
 
         taskList.setName(request.getName());
         TaskList updatedTaskList = taskListRepository.save(taskList);
+        eventPublisher.publishEvent(ChangeEvent.taskList(currentUser.getId(), ChangeEvent.Action.UPDATED, id));
         return TaskListResponse.fromTaskList(updatedTaskList);
     }
 
+    /**
+     * Deletes a list of the current user and its tasks with two bulk statements,
+     * instead of loading every task through the {@code tasks} cascade.
+     */
     public void deleteTaskList(Long id) {
-        taskListRepository.deleteById(id);
+        requireOwned(id);
+
+        taskRepository.deleteByTaskListId(id);
+        taskListRepository.deleteListById(id);
+        Long userId = getCurrentUser().getId();
+        tombstoneRepository.save(Tombstone.of(Tombstone.EntityType.TASK_LIST, id, userId));
+        eventPublisher.publishEvent(ChangeEvent.taskList(userId, ChangeEvent.Action.DELETED, id));
+    }
+
+    /**
+     * Checks ownership and hands the deletion to {@link TaskListPurgeService},
+     * which removes the tasks in chunks in the background. The list stays
+     * readable until the purge finishes.
+     */
+    @Transactional(readOnly = true)
+    public void deleteTaskListAsync(Long id) {
+        requireOwned(id);
+
+        taskListPurgeService.purge(id);
     }
 
     public void moveTaskToList(Long taskId, Long listId) {
@@ -102,6 +189,13 @@ public class TaskListService extends BaseService {
 
         task.setTaskList(taskList);
         taskRepository.save(task);
+        eventPublisher.publishEvent(ChangeEvent.task(currentUser.getId(), ChangeEvent.Action.UPDATED, listId, taskId));
+    }
+
+    private void requireOwned(Long id) {
+        if (!taskListRepository.existsByIdAndUser(id, getCurrentUser())) {
+            throw new ResourceNotFoundException("Lista de tarefas não encontrada com id: " + id);
+        }
     }
 
     public void removeTaskFromList(Long taskId) {
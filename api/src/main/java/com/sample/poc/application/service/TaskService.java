@@ -1,32 +1,67 @@
 package com.sample.poc.application.service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.sample.poc.application.dto.BatchOperationResult;
+import com.sample.poc.application.dto.BatchTaskOperation;
+import com.sample.poc.application.dto.BatchTaskRequest;
+import com.sample.poc.application.dto.BatchTaskResponse;
 import com.sample.poc.application.dto.CreateTaskRequest;
+import com.sample.poc.application.dto.CursorPage;
+import com.sample.poc.application.dto.TaskCursor;
 import com.sample.poc.application.dto.TaskResponse;
 import com.sample.poc.application.dto.UpdateTaskRequest;
+import com.sample.poc.application.dto.Versioned;
+import com.sample.poc.application.event.ChangeEvent;
 import com.sample.poc.domain.model.Task;
 import com.sample.poc.domain.model.TaskList;
+import com.sample.poc.domain.model.Tombstone;
 import com.sample.poc.domain.model.User;
+import com.sample.poc.domain.repository.ResourceVersion;
 import com.sample.poc.domain.repository.TaskListRepository;
 import com.sample.poc.domain.repository.TaskRepository;
+import com.sample.poc.domain.repository.TombstoneRepository;
+import com.sample.poc.infrastructure.persistence.ChangeSequence;
 import com.sample.poc.presentation.exception.ResourceNotFoundException;
 
 @Service
 @Transactional
 public class TaskService extends BaseService {
 
+  public static final int DEFAULT_PAGE_SIZE = 50;
+  public static final int MAX_PAGE_SIZE = 200;
+  public static final int MAX_BATCH_OPERATIONS = 100;
+  public static final int MAX_BATCH_IDS = 1000;
+
   @Autowired
   private TaskRepository taskRepository;
 
   @Autowired
   private TaskListRepository taskListRepository;
 
+  @Autowired
+  private TombstoneRepository tombstoneRepository;
+
+  @Autowired
+  private ChangeSequence changeSequence;
+
+  @Autowired
+  private ApplicationEventPublisher eventPublisher;
+
   public TaskResponse createTask(CreateTaskRequest createTaskRequest) {
     User currentUser = getCurrentUser();
 
@@ -34,6 +69,7 @@ public class TaskService extends BaseService {
         .title(createTaskRequest.getTitle())
         .description(createTaskRequest.getDescription())
         .completed(false)
+        .userId(currentUser.getId())
         .build();
 
     if (createTaskRequest.getTitle() == null || createTaskRequest.getTitle().isBlank()) {
@@ -50,6 +86,8 @@ public class TaskService extends BaseService {
     }
 
     Task savedTask = taskRepository.save(task);
+    eventPublisher.publishEvent(ChangeEvent.task(currentUser.getId(), ChangeEvent.Action.CREATED,
+        createTaskRequest.getTaskListId(), savedTask.getId()));
     return TaskResponse.fromTask(savedTask);
   }
 
@@ -60,27 +98,81 @@ public class TaskService extends BaseService {
   }
 
   public List<TaskResponse> findByTaskListId(Long taskListId) {
-    List<Task> tasks = taskRepository.findByTaskListId(taskListId);
+    return findVersionedByTaskListId(taskListId).body();
+  }
+
+  @Transactional(readOnly = true)
+  public Versioned<List<TaskResponse>> findVersionedByTaskListId(Long taskListId) {
+    // Ownership check and tasks in one query; someone else's list is a 404.
+    List<Task> tasks = taskListRepository.findWithTasksByIdAndUser(taskListId, getCurrentUser())
+        .orElseThrow(() -> new ResourceNotFoundException("Lista de tarefas não encontrada com id: " + taskListId))
+        .getTasks();
 
-    return tasks.stream()
+    LocalDateTime lastModified = tasks.stream()
+        .map(Task::getUpdatedAt)
+        .filter(Objects::nonNull)
+        .max(Comparator.naturalOrder())
+        .orElse(null);
+    List<TaskResponse> body = tasks.stream()
         .map(TaskResponse::fromTask)
         .collect(Collectors.toList());
+    return new Versioned<>(body, new ResourceVersion(tasks.size(), lastModified));
+  }
+
+  /**
+   * Version of a list's tasks for conditional requests; empty when the list
+   * isn't the current user's.
+   */
+  @Transactional(readOnly = true)
+  public Optional<ResourceVersion> getTasksVersion(Long taskListId) {
+    return taskListRepository.findTasksVersionByIdAndUser(taskListId, getCurrentUser());
+  }
+
+  /**
+   * Keyset-paginated tasks of a list owned by the current user, ordered by
+   * (completed, createdAt, id). {@code cursor} is the {@code nextCursor} of the
+   * previous page, or null for the first one.
+   */
+  @Transactional(readOnly = true)
+  public CursorPage<TaskResponse> findPageByTaskListId(Long taskListId, String cursor, Integer size) {
+    requireOwnedList(taskListId, getCurrentUser());
+
+    int pageSize = size == null || size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+    // One extra row tells whether another page exists without a count query.
+    Limit limit = Limit.of(pageSize + 1);
+
+    List<Task> tasks;
+    if (cursor == null || cursor.isBlank()) {
+      tasks = taskRepository.findPageByTaskListId(taskListId, limit);
+    } else {
+      TaskCursor after = TaskCursor.decode(cursor);
+      tasks = taskRepository.findPageByTaskListIdAfter(taskListId, after.completed(), after.createdAt(), after.id(),
+          limit);
+    }
+
+    boolean hasMore = tasks.size() > pageSize;
+    List<Task> page = hasMore ? tasks.subList(0, pageSize) : tasks;
+
+    return CursorPage.<TaskResponse>builder()
+        .items(page.stream().map(TaskResponse::fromTask).collect(Collectors.toList()))
+        .nextCursor(hasMore ? TaskCursor.of(page.get(page.size() - 1)).encode() : null)
+        .hasMore(hasMore)
+        .build();
   }
 
   public TaskResponse toggleTask(Long taskId, Boolean status) {
-    Task task = taskRepository.findById(taskId)
-        .orElseThrow(() -> new ResourceNotFoundException("Tarefa não encontrada com id: " + taskId));
+    Task task = findOwnedTask(taskId, getCurrentUser());
 
     task.setCompleted(status);
     Task updatedTask = taskRepository.save(task);
+    publishUpdated(updatedTask);
     return TaskResponse.fromTask(updatedTask);
   }
 
   public TaskResponse updateTask(Long taskId, UpdateTaskRequest updateTaskRequest) {
     User currentUser = getCurrentUser();
 
-    Task task = taskRepository.findById(taskId)
-        .orElseThrow(() -> new ResourceNotFoundException("Tarefa não encontrada com id: " + taskId));
+    Task task = findOwnedTask(taskId, currentUser);
 
     if (updateTaskRequest.getTitle() != null) {
       task.setTitle(updateTaskRequest.getTitle());
@@ -102,14 +194,104 @@ public class TaskService extends BaseService {
     }
 
     Task updatedTask = taskRepository.save(task);
+    publishUpdated(updatedTask);
     return TaskResponse.fromTask(updatedTask);
   }
 
+  /**
+   * Applies every operation of the batch in this one transaction, each as a
+   * single set-based statement over the ids the current user owns. Ids that
+   * don't exist or belong to someone else are reported in {@code notFound}.
+   */
+  public BatchTaskResponse applyBatch(BatchTaskRequest batchTaskRequest) {
+    List<BatchTaskOperation> operations = batchTaskRequest.getOperations();
+    if (operations.size() > MAX_BATCH_OPERATIONS) {
+      throw new IllegalArgumentException("O lote aceita no máximo " + MAX_BATCH_OPERATIONS + " operações");
+    }
+    if (operations.stream().mapToInt(operation -> operation.getIds().size()).sum() > MAX_BATCH_IDS) {
+      throw new IllegalArgumentException("O lote aceita no máximo " + MAX_BATCH_IDS + " ids");
+    }
+
+    User currentUser = getCurrentUser();
+    List<BatchOperationResult> results = new ArrayList<>();
+    int affected = 0;
+
+    for (int i = 0; i < operations.size(); i++) {
+      BatchOperationResult result = applyOperation(i, operations.get(i), currentUser);
+      affected += result.getAffected();
+      results.add(result);
+    }
+
+    return BatchTaskResponse.builder()
+        .affected(affected)
+        .results(results)
+        .build();
+  }
+
+  private BatchOperationResult applyOperation(int index, BatchTaskOperation operation, User currentUser) {
+    BatchOperationResult.BatchOperationResultBuilder result = BatchOperationResult.builder()
+        .index(index)
+        .op(operation.getOp());
+
+    boolean isUpdate = operation.getOp() == BatchTaskOperation.Type.UPDATE;
+    if (isUpdate && operation.getTitle() == null && operation.getDescription() == null
+        && operation.getCompleted() == null) {
+      return result.status(BatchOperationResult.FAILED)
+          .notFound(List.of())
+          .error("Nenhum campo para atualizar")
+          .build();
+    }
+
+    Set<Long> requested = new LinkedHashSet<>(operation.getIds());
+    List<Long> owned = taskRepository.findIdsByIdInAndUser(requested, currentUser);
+    requested.removeAll(owned);
+
+    int affected = 0;
+    if (!owned.isEmpty()) {
+      if (isUpdate) {
+        affected = taskRepository.updateByIdIn(owned, operation.getTitle(), operation.getDescription(),
+            operation.getCompleted(), LocalDateTime.now(), changeSequence.bulk(Task.class));
+      } else {
+        tombstoneRepository.insertForTasks(owned, currentUser.getId(), LocalDateTime.now(),
+            changeSequence.bulk(Tombstone.class));
+        affected = taskRepository.deleteByIdIn(owned);
+      }
+      eventPublisher.publishEvent(ChangeEvent.tasks(currentUser.getId(),
+          isUpdate ? ChangeEvent.Action.UPDATED : ChangeEvent.Action.DELETED, null, owned));
+    }
+
+    return result.status(BatchOperationResult.OK)
+        .affected(affected)
+        .notFound(new ArrayList<>(requested))
+        .build();
+  }
+
   public void deleteTask(Long taskId) {
-    if (!taskRepository.existsById(taskId)) {
-      throw new ResourceNotFoundException("Tarefa não encontrada com id: " + taskId);
+    Task task = findOwnedTask(taskId, getCurrentUser());
+
+    taskRepository.delete(task);
+    tombstoneRepository.save(Tombstone.of(Tombstone.EntityType.TASK, taskId, task.getUserId()));
+    eventPublisher.publishEvent(ChangeEvent.task(task.getUserId(), ChangeEvent.Action.DELETED, null, taskId));
+  }
+
+  private void requireOwnedList(Long taskListId, User user) {
+    if (!taskListRepository.existsByIdAndUser(taskListId, user)) {
+      throw new ResourceNotFoundException("Lista de tarefas não encontrada com id: " + taskListId);
     }
+  }
+
+  /**
+   * Someone else's task is reported as missing, the same as one that doesn't
+   * exist.
+   */
+  private Task findOwnedTask(Long taskId, User user) {
+    return taskRepository.findByIdAndUserId(taskId, user.getId())
+        .orElseThrow(() -> new ResourceNotFoundException("Tarefa não encontrada com id: " + taskId));
+  }
 
-    taskRepository.deleteById(taskId);
+  private void publishUpdated(Task task) {
+    // getId() on the lazy list proxy doesn't initialize it.
+    Long taskListId = task.getTaskList() != null ? task.getTaskList().getId() : null;
+    eventPublisher.publishEvent(ChangeEvent.task(task.getUserId(), ChangeEvent.Action.UPDATED, taskListId, task.getId()));
   }
 }
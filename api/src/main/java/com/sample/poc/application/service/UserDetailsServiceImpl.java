@@ -1,5 +1,7 @@
 package com.sample.poc.application.service;
 
+import java.util.Optional;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -8,6 +10,8 @@ import org.springframework.stereotype.Service;
 
 import com.sample.poc.domain.model.User;
 import com.sample.poc.domain.repository.UserRepository;
+import com.sample.poc.infrastructure.cache.CachedUser;
+import com.sample.poc.infrastructure.cache.UserCache;
 
 @Service
 public class UserDetailsServiceImpl implements UserDetailsService {
@@ -15,11 +19,20 @@ public class UserDetailsServiceImpl implements UserDetailsService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserCache userCache;
+
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
+        Optional<CachedUser> cached = userCache.get(email);
+        if (cached.isPresent()) {
+            return cached.get().toUser();
+        }
+
         User user = userRepository.findByEmail(email)
             .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado com o email: " + email));
 
+        userCache.put(user);
         return user;
     }
 }
@@ -0,0 +1,19 @@
+package com.sample.poc.domain.model;
+
+/**
+ * Hibernate second-level cache region names. Each one needs a size under
+ * {@code app.cache.l2.regions}; an unconfigured region fails startup.
+ */
+public final class CacheRegions {
+
+    public static final String USERS = "users";
+    public static final String TASK_LISTS = "taskLists";
+    public static final String TASK_LIST_TASKS = "taskListTasks";
+    public static final String TASKS = "tasks";
+
+    /** Query cache region of the list ownership and name checks. */
+    public static final String TASK_LIST_QUERIES = "taskListQueries";
+
+    private CacheRegions() {
+    }
+}
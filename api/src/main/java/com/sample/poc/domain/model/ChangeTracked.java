@@ -0,0 +1,16 @@
+package com.sample.poc.domain.model;
+
+/**
+ * Entity read by delta sync. {@code changeSeq} is the commit sequence of the
+ * last transaction that wrote the row, assigned by
+ * {@code ChangeSequenceListener}; clients page through rows in
+ * (changeSeq, id) order.
+ */
+public interface ChangeTracked {
+
+    Long getId();
+
+    Long getChangeSeq();
+
+    void setChangeSeq(Long changeSeq);
+}
@@ -0,0 +1,30 @@
+package com.sample.poc.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Single row holding the last commit sequence handed out to a writing
+ * transaction. Locked by each of them just before commit, so sequences are
+ * assigned in commit order.
+ */
+@Entity
+@Table(name = "sync_clock")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncClock {
+
+    public static final long ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(name = "last_seq", nullable = false)
+    private Long lastSeq;
+}
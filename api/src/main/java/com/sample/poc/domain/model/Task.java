@@ -1,23 +1,38 @@
 package com.sample.poc.domain.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import com.sample.poc.infrastructure.persistence.ChangeSequenceListener;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_list_keyset", columnList = "task_list_id, completed, created_at, id"),
+        @Index(name = "idx_tasks_user_change", columnList = "user_id, change_seq, id")
+})
+@EntityListeners(ChangeSequenceListener.class)
+// Cached so a cached TaskList.tasks collection doesn't load its elements one by one.
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.TASKS)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class Task {
+public class Task implements ChangeTracked {
 
+    // Pooled sequence instead of IDENTITY so Hibernate can batch inserts;
+    // keep allocationSize in step with hibernate.jdbc.batch_size.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -40,8 +55,25 @@ public class Task {
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "task_list_id")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private TaskList taskList;
 
+    // Owner of the list, copied here so delta sync reads a user's tasks
+    // without joining task_lists.
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "change_seq")
+    private Long changeSeq;
+
+    @PrePersist
+    protected void onCreate() {
+        if (userId == null && taskList != null) {
+            userId = taskList.getUser().getId();
+        }
+    }
+
     @PreUpdate
     protected void onUpdate() {
         this.updatedAt = LocalDateTime.now();
@@ -1,24 +1,36 @@
 package com.sample.poc.domain.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import com.sample.poc.infrastructure.persistence.ChangeSequenceListener;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "task_lists", uniqueConstraints = @UniqueConstraint(columnNames = {"name", "user_id"}))
+@Table(name = "task_lists", uniqueConstraints = @UniqueConstraint(columnNames = {"name", "user_id"}),
+        indexes = @Index(name = "idx_task_lists_user_change", columnList = "user_id, change_seq, id"))
+@EntityListeners(ChangeSequenceListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.TASK_LISTS)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class TaskList {
+public class TaskList implements ChangeTracked {
 
+    // Pooled sequence instead of IDENTITY so Hibernate can batch inserts;
+    // keep allocationSize in step with hibernate.jdbc.batch_size.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_lists_seq")
+    @SequenceGenerator(name = "task_lists_seq", sequenceName = "task_lists_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -34,11 +46,19 @@ public class TaskList {
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private User user;
 
     @OneToMany(mappedBy = "taskList", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.TASK_LIST_TASKS)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private List<Task> tasks;
 
+    @Column(name = "change_seq")
+    private Long changeSeq;
+
     @PreUpdate
     protected void onUpdate() {
         this.updatedAt = LocalDateTime.now();
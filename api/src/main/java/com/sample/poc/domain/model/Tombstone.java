@@ -0,0 +1,62 @@
+package com.sample.poc.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import com.sample.poc.infrastructure.persistence.ChangeSequenceListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * Record of a deleted task or task list, so delta sync can tell clients what
+ * to drop. Only the owner and the id are kept; the row itself is gone. A list
+ * tombstone also stands for the tasks that were in it.
+ */
+@Entity
+@Table(name = "tombstones", indexes = @Index(name = "idx_tombstones_user_change",
+        columnList = "user_id, change_seq, id"))
+@EntityListeners(ChangeSequenceListener.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Tombstone implements ChangeTracked {
+
+    public enum EntityType {
+        TASK, TASK_LIST
+    }
+
+    // IDENTITY: batch deletes write their tombstones with one insert ... select,
+    // so there is nothing to batch on the JDBC side.
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 16)
+    private EntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "deleted_at", nullable = false)
+    @Builder.Default
+    private LocalDateTime deletedAt = LocalDateTime.now();
+
+    @Column(name = "change_seq")
+    private Long changeSeq;
+
+    public static Tombstone of(EntityType entityType, Long entityId, Long userId) {
+        return Tombstone.builder()
+                .entityType(entityType)
+                .entityId(entityId)
+                .userId(userId)
+                .build();
+    }
+}
@@ -0,0 +1,49 @@
+package com.sample.poc.domain.repository;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Cheap version of a resource: how many rows make it up and when the newest of
+ * them was written. Adding or removing a row changes the count and editing one
+ * moves the timestamp, so together they identify the representation without
+ * loading it. Built either by an aggregate query or from rows already loaded;
+ * both paths must count the same rows.
+ */
+public record ResourceVersion(long count, LocalDateTime lastModified) {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    /** Used by JPQL constructor expressions. */
+    public ResourceVersion(Long count, LocalDateTime lastModified) {
+        this(count != null ? count : 0L, lastModified);
+    }
+
+    /** Used by JPQL constructor expressions aggregating two timestamp columns. */
+    public ResourceVersion(Long count, LocalDateTime lastModified, LocalDateTime otherLastModified) {
+        this(count, latest(lastModified, otherLastModified));
+    }
+
+    public static ResourceVersion of(long count, LocalDateTime... timestamps) {
+        return new ResourceVersion(count, latest(timestamps));
+    }
+
+    /**
+     * Weak entity tag: the JSON is rendered from these rows, but not
+     * byte-for-byte pinned by them.
+     */
+    public String etag() {
+        long micros = lastModified != null ? ChronoUnit.MICROS.between(EPOCH, lastModified) : 0L;
+        return "W/\"" + Long.toString(count, 36) + "-" + Long.toString(micros, 36) + "\"";
+    }
+
+    private static LocalDateTime latest(LocalDateTime... timestamps) {
+        LocalDateTime latest = null;
+        for (LocalDateTime timestamp : timestamps) {
+            if (timestamp != null && (latest == null || timestamp.isAfter(latest))) {
+                latest = timestamp;
+            }
+        }
+        return latest;
+    }
+}
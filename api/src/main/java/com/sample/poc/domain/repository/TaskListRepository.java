@@ -2,21 +2,140 @@ package com.sample.poc.domain.repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.sample.poc.domain.model.CacheRegions;
 import com.sample.poc.domain.model.TaskList;
 import com.sample.poc.domain.model.User;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface TaskListRepository extends JpaRepository<TaskList, Long> {
     List<TaskList> findByUser(User user);
 
+    /**
+     * One grouped statement returning every list of the user with its total and
+     * completed task counts.
+     */
+    @Query("""
+            select tl.id as id, tl.name as name, tl.createdAt as createdAt, tl.updatedAt as updatedAt,
+                   count(t.id) as taskCount,
+                   coalesce(sum(case when t.completed = true then 1 else 0 end), 0) as completedCount,
+                   max(t.updatedAt) as lastTaskUpdatedAt
+            from TaskList tl left join tl.tasks t
+            where tl.user = :user
+            group by tl.id, tl.name, tl.createdAt, tl.updatedAt
+            order by tl.id
+            """)
+    List<TaskListSummary> findSummariesByUser(@Param("user") User user);
+
+    /**
+     * Version of {@link #findSummariesByUser}: lists plus tasks, and the newest
+     * write among them.
+     */
+    @Query("""
+            select new com.sample.poc.domain.repository.ResourceVersion(
+                   count(distinct tl.id) + count(t.id), max(tl.updatedAt), max(t.updatedAt))
+            from TaskList tl left join tl.tasks t
+            where tl.user = :user
+            """)
+    ResourceVersion findVersionByUser(@Param("user") User user);
+
+    /**
+     * Version of a single list as rendered by {@code GET /api/tasklists/{id}}:
+     * its task count and its own last write. Empty when not owned by the user.
+     */
+    @Query("""
+            select new com.sample.poc.domain.repository.ResourceVersion(count(t.id), tl.updatedAt)
+            from TaskList tl left join tl.tasks t
+            where tl.id = :id and tl.user = :user
+            group by tl.id, tl.updatedAt
+            """)
+    Optional<ResourceVersion> findVersionByIdAndUser(@Param("id") Long id, @Param("user") User user);
+
+    /**
+     * Version of the tasks of a list: their count and the newest write among
+     * them. Empty when the list is not owned by the user.
+     */
+    @Query("""
+            select new com.sample.poc.domain.repository.ResourceVersion(count(t.id), max(t.updatedAt))
+            from TaskList tl left join tl.tasks t
+            where tl.id = :id and tl.user = :user
+            group by tl.id
+            """)
+    Optional<ResourceVersion> findTasksVersionByIdAndUser(@Param("id") Long id, @Param("user") User user);
+
+    /**
+     * Ownership check run by every task write; cached, and invalidated by any
+     * write to task_lists.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.TASK_LIST_QUERIES)
+    })
     Optional<TaskList> findByIdAndUser(Long id, User user);
 
+    /**
+     * Lists of the user committed after the given position, in (changeSeq, id)
+     * order; a range scan on idx_task_lists_user_change.
+     */
+    @Query("""
+            select tl from TaskList tl
+            where tl.user.id = :userId
+              and (tl.changeSeq, tl.id) > (:changeSeq, :id)
+            order by tl.changeSeq, tl.id
+            """)
+    List<TaskList> findChangedSince(@Param("userId") Long userId,
+            @Param("changeSeq") Long changeSeq,
+            @Param("id") Long id,
+            Limit limit);
+
+    @Query("select tl.user.id from TaskList tl where tl.id = :id")
+    Optional<Long> findUserIdById(@Param("id") Long id);
+
+    /**
+     * Forward-only cursor over the user's lists; must be consumed inside a
+     * transaction and closed. Bypasses the second-level cache.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("select tl from TaskList tl where tl.user = :user order by tl.id")
+    Stream<TaskList> streamByUser(@Param("user") User user);
+
+    /**
+     * Same as {@link #findByIdAndUser} but fetches the tasks in the same query.
+     */
+    @EntityGraph(attributePaths = "tasks")
+    Optional<TaskList> findWithTasksByIdAndUser(Long id, User user);
+
     boolean existsByIdAndUser(Long id, User user);
 
+    /**
+     * Deletes the list row without loading it, so the {@code tasks} cascade is
+     * not walked; its tasks must already be gone.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from TaskList tl where tl.id = :id")
+    int deleteListById(@Param("id") Long id);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.TASK_LIST_QUERIES)
+    })
     boolean existsByNameAndUser(String name, User user);
 
     Optional<TaskList> findByNameAndUser(String name, User user);
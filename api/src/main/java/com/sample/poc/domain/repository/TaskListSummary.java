@@ -0,0 +1,24 @@
+package com.sample.poc.domain.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of a task list with its task counts, aggregated in SQL so the
+ * tasks themselves are never loaded.
+ */
+public interface TaskListSummary {
+
+    Long getId();
+
+    String getName();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+    Long getTaskCount();
+
+    Long getCompletedCount();
+
+    LocalDateTime getLastTaskUpdatedAt();
+}
@@ -1,12 +1,25 @@
 package com.sample.poc.domain.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.sample.poc.domain.model.Task;
 import com.sample.poc.domain.model.TaskList;
+import com.sample.poc.domain.model.User;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
@@ -15,8 +28,113 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     List<Task> findByTaskList(TaskList taskList);
     List<Task> findByTaskListId(Long Id);
 
+    /**
+     * First page of a list in keyset order (completed, createdAt, id).
+     */
+    @Query("""
+            select t from Task t
+            where t.taskList.id = :taskListId
+            order by t.completed, t.createdAt, t.id
+            """)
+    List<Task> findPageByTaskListId(@Param("taskListId") Long taskListId, Limit limit);
+
+    /**
+     * Next page after the given position. The row-value comparison matches the
+     * order by, so each page is a range scan on idx_tasks_list_keyset.
+     */
+    @Query("""
+            select t from Task t
+            where t.taskList.id = :taskListId
+              and (t.completed, t.createdAt, t.id) > (:completed, :createdAt, :id)
+            order by t.completed, t.createdAt, t.id
+            """)
+    List<Task> findPageByTaskListIdAfter(@Param("taskListId") Long taskListId,
+            @Param("completed") Boolean completed,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Limit limit);
+
+    /**
+     * Tasks of the user committed after the given position, in (changeSeq, id)
+     * order; a range scan on idx_tasks_user_change.
+     */
+    @Query("""
+            select t from Task t
+            where t.userId = :userId
+              and (t.changeSeq, t.id) > (:changeSeq, :id)
+            order by t.changeSeq, t.id
+            """)
+    List<Task> findChangedSince(@Param("userId") Long userId,
+            @Param("changeSeq") Long changeSeq,
+            @Param("id") Long id,
+            Limit limit);
+
+    /**
+     * Forward-only cursor over every task of the user's lists, grouped by list;
+     * must be consumed inside a transaction and closed. Bypasses the
+     * second-level cache so an export doesn't flush the hot entries out.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("select t from Task t where t.taskList.user = :user order by t.taskList.id, t.id")
+    Stream<Task> streamByUser(@Param("user") User user);
+
+    /**
+     * The subset of {@code ids} that belong to lists owned by {@code user}.
+     */
+    @Query("select t.id from Task t where t.id in :ids and t.taskList.user = :user")
+    List<Long> findIdsByIdInAndUser(@Param("ids") Collection<Long> ids, @Param("user") User user);
+
+    /**
+     * Set-based update; null arguments leave the column unchanged. Callers pass
+     * ids already checked with {@link #findIdsByIdInAndUser}, and the
+     * {@code changeSeq} from {@code ChangeSequence.bulk}.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Task t
+            set t.title = coalesce(:title, t.title),
+                t.description = coalesce(:description, t.description),
+                t.completed = coalesce(:completed, t.completed),
+                t.updatedAt = :updatedAt,
+                t.changeSeq = :changeSeq
+            where t.id in :ids
+            """)
+    int updateByIdIn(@Param("ids") Collection<Long> ids,
+            @Param("title") String title,
+            @Param("description") String description,
+            @Param("completed") Boolean completed,
+            @Param("updatedAt") LocalDateTime updatedAt,
+            @Param("changeSeq") Long changeSeq);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Task t where t.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Removes every task of a list in one statement, without loading them.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Task t where t.taskList.id = :taskListId")
+    int deleteByTaskListId(@Param("taskListId") Long taskListId);
+
+    /**
+     * Ids of the next chunk of a list's tasks, for chunked background deletes.
+     */
+    @Query("select t.id from Task t where t.taskList.id = :taskListId order by t.id")
+    List<Long> findIdsByTaskListId(@Param("taskListId") Long taskListId, Limit limit);
+
     // Optional<Task> findByIdAndUser(Long id, User user);
 
+    /**
+     * The task, if it belongs to {@code userId}; ownership check of the
+     * single-task reads and writes.
+     */
+    Optional<Task> findByIdAndUserId(Long id, Long userId);
+
     // boolean existsByIdAndUser(Long id, User user);
     boolean existsById(Long id);
 }
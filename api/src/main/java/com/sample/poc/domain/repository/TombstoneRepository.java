@@ -0,0 +1,54 @@
+package com.sample.poc.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.sample.poc.domain.model.Tombstone;
+
+@Repository
+public interface TombstoneRepository extends JpaRepository<Tombstone, Long> {
+
+    /**
+     * Tombstones of the user committed after the given position, in
+     * (changeSeq, id) order; a range scan on idx_tombstones_user_change.
+     */
+    @Query("""
+            select ts from Tombstone ts
+            where ts.userId = :userId
+              and (ts.changeSeq, ts.id) > (:changeSeq, :id)
+            order by ts.changeSeq, ts.id
+            """)
+    List<Tombstone> findChangedSince(@Param("userId") Long userId,
+            @Param("changeSeq") Long changeSeq,
+            @Param("id") Long id,
+            Limit limit);
+
+    /**
+     * Tombstones for the given tasks in one statement; run before deleting them.
+     * {@code changeSeq} comes from {@code ChangeSequence.bulk}.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            insert into Tombstone (entityType, entityId, userId, deletedAt, changeSeq)
+            select com.sample.poc.domain.model.Tombstone.EntityType.TASK, t.id, :userId, :deletedAt, :changeSeq
+            from Task t where t.id in :ids
+            """)
+    int insertForTasks(@Param("ids") Collection<Long> ids,
+            @Param("userId") Long userId,
+            @Param("deletedAt") LocalDateTime deletedAt,
+            @Param("changeSeq") Long changeSeq);
+
+    @Modifying
+    @Transactional
+    @Query("delete from Tombstone ts where ts.deletedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -2,6 +2,7 @@ package com.sample.poc.domain.repository;
 
 import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -11,5 +12,12 @@ import com.sample.poc.domain.model.User;
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
 
+    /**
+     * Loads the user together with its task lists in a single query, for the
+     * few call sites that actually need the lists.
+     */
+    @EntityGraph(attributePaths = "taskLists")
+    Optional<User> findWithTaskListsByEmail(String email);
+
     boolean existsByEmail(String email);
 }
@@ -0,0 +1,27 @@
+package com.sample.poc.infrastructure.cache;
+
+import com.sample.poc.domain.model.User;
+
+/**
+ * Identity snapshot kept by {@link UserCache}. Only scalar columns are kept,
+ * never the entity itself, so a cached value can't leak lazy collections or a
+ * persistence context across requests.
+ */
+public record CachedUser(Long id, String name, String email, String password) {
+
+  public static CachedUser fromUser(User user) {
+    return new CachedUser(user.getId(), user.getName(), user.getEmail(), user.getPassword());
+  }
+
+  /**
+   * Builds a detached {@link User} carrying the cached columns, without task lists.
+   */
+  public User toUser() {
+    return User.builder()
+        .id(id)
+        .name(name)
+        .email(email)
+        .password(password)
+        .build();
+  }
+}
@@ -0,0 +1,69 @@
+package com.sample.poc.infrastructure.cache;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.sample.poc.application.event.ChangeEvent;
+import com.sample.poc.domain.model.CacheRegions;
+import com.sample.poc.domain.model.Task;
+import com.sample.poc.domain.model.TaskList;
+import com.sample.poc.domain.model.User;
+import com.sample.poc.infrastructure.invalidation.InvalidationMessage;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Evicts second-level cache entries for writes committed on other nodes.
+ * Hibernate keeps this node's regions in step with its own writes, but its
+ * regions and query timestamps are local, so remote changes arrive over the
+ * invalidation bus instead.
+ */
+@Component
+public class SecondLevelCacheInvalidation {
+
+  private static final String TASKS_ROLE = TaskList.class.getName() + ".tasks";
+
+  private final Cache cache;
+
+  public SecondLevelCacheInvalidation(EntityManagerFactory entityManagerFactory) {
+    this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+  }
+
+  @EventListener
+  public void onInvalidation(InvalidationMessage message) {
+    switch (message.type()) {
+      // Keyed by email, not id; users rarely change, so drop the region.
+      case USER -> cache.evictEntityData(User.class);
+      case CHANGE -> evict(message.change());
+      case ALL -> cache.evictAllRegions();
+      default -> {
+      }
+    }
+  }
+
+  private void evict(ChangeEvent change) {
+    if (change.entity() == ChangeEvent.Entity.TASK_LIST) {
+      change.ids().forEach(id -> {
+        cache.evictEntityData(TaskList.class, id);
+        cache.evictCollectionData(TASKS_ROLE, id);
+      });
+      // Creates matter too: a cached "name not taken" answer would be wrong.
+      cache.evictQueryRegion(CacheRegions.TASK_LIST_QUERIES);
+      return;
+    }
+
+    if (change.ids().isEmpty()) {
+      cache.evictEntityData(Task.class);
+    } else {
+      change.ids().forEach(id -> cache.evictEntityData(Task.class, id));
+    }
+    // Only a create names every list it touched; a move or delete doesn't name the old one.
+    if (change.action() == ChangeEvent.Action.CREATED && change.taskListId() != null) {
+      cache.evictCollectionData(TASKS_ROLE, change.taskListId());
+    } else {
+      cache.evictCollectionData(TASKS_ROLE);
+    }
+  }
+}
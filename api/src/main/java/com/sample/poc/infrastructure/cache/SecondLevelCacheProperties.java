@@ -0,0 +1,35 @@
+package com.sample.poc.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * {@code app.cache.l2.*}: Hibernate second-level cache regions. Every region
+ * named in {@code CacheRegions} must be listed here; its entries are bounded
+ * by {@code max-size} and expire {@code ttl} after being written.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.cache.l2")
+public class SecondLevelCacheProperties {
+
+    private boolean enabled = true;
+
+    /** Bound of Hibernate's default query results region. */
+    private long queryResultsMaxSize = 10000;
+
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    @Data
+    public static class Region {
+        private long maxSize = 10000;
+
+        private Duration ttl = Duration.ofMinutes(10);
+    }
+}
@@ -0,0 +1,128 @@
+package com.sample.poc.infrastructure.cache;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.sample.poc.domain.model.User;
+import com.sample.poc.infrastructure.invalidation.InvalidationMessage;
+
+/**
+ * Bounded, time-expiring in-process cache of user identities keyed by email.
+ * Consulted by the database-backed principal paths before hitting
+ * {@code UserRepository.findByEmail}.
+ */
+@Component
+public class UserCache {
+
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  private final int maxSize;
+  private final long ttlMs;
+
+  public UserCache(
+      @Value("${app.cache.users.max-size:10000}") int maxSize,
+      @Value("${app.cache.users.ttl:300000}") long ttlMs) {
+    this.maxSize = maxSize;
+    this.ttlMs = ttlMs;
+  }
+
+  public Optional<CachedUser> get(String email) {
+    if (email == null) {
+      return Optional.empty();
+    }
+    Entry entry = entries.get(email);
+    if (entry == null) {
+      misses.increment();
+      return Optional.empty();
+    }
+    if (entry.isExpired(System.currentTimeMillis())) {
+      // Only count the eviction if this call removed it, not a concurrent one.
+      if (entries.remove(email, entry)) {
+        evictions.increment();
+      }
+      misses.increment();
+      return Optional.empty();
+    }
+    hits.increment();
+    return Optional.of(entry.user());
+  }
+
+  public void put(User user) {
+    if (maxSize <= 0 || ttlMs <= 0 || user == null || user.getEmail() == null) {
+      return;
+    }
+    if (entries.size() >= maxSize && !entries.containsKey(user.getEmail())) {
+      makeRoom();
+    }
+    entries.put(user.getEmail(), new Entry(CachedUser.fromUser(user), System.currentTimeMillis() + ttlMs));
+  }
+
+  public void evict(String email) {
+    if (email != null) {
+      entries.remove(email);
+    }
+  }
+
+  public void clear() {
+    entries.clear();
+  }
+
+  /**
+   * Applies user changes made on other nodes.
+   */
+  @EventListener
+  public void onInvalidation(InvalidationMessage message) {
+    switch (message.type()) {
+      case USER -> evict(message.key());
+      case ALL -> clear();
+      default -> {
+      }
+    }
+  }
+
+  public Stats getStats() {
+    return new Stats(entries.size(), hits.sum(), misses.sum(), evictions.sum());
+  }
+
+  private void makeRoom() {
+    long now = System.currentTimeMillis();
+    if (entries.values().removeIf(entry -> {
+      boolean expired = entry.isExpired(now);
+      if (expired) {
+        evictions.increment();
+      }
+      return expired;
+    }) && entries.size() < maxSize) {
+      return;
+    }
+
+    // Still full with live entries: drop arbitrary ones rather than track recency on every read.
+    Iterator<String> keys = entries.keySet().iterator();
+    while (entries.size() >= maxSize && keys.hasNext()) {
+      keys.next();
+      keys.remove();
+      evictions.increment();
+    }
+  }
+
+  private record Entry(CachedUser user, long expiresAt) {
+
+    boolean isExpired(long now) {
+      return now >= expiresAt;
+    }
+  }
+
+  public record Stats(int size, long hits, long misses, long evictions) {
+  }
+}
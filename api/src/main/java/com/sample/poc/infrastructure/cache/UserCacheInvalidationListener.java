@@ -0,0 +1,92 @@
+package com.sample.poc.infrastructure.cache;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.springframework.stereotype.Component;
+
+import com.sample.poc.domain.model.User;
+import com.sample.poc.infrastructure.invalidation.InvalidationBus;
+import com.sample.poc.infrastructure.invalidation.InvalidationMessage;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Hibernate listener that drops the cached identity whenever a {@link User}
+ * row is written, here and, through the {@link InvalidationBus}, on the other
+ * nodes. When an update changed the email, the entry under the previous one,
+ * read from the update's old state, is dropped as well.
+ */
+@Component
+public class UserCacheInvalidationListener
+    implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+  private static final String EMAIL = "email";
+
+  private final UserCache userCache;
+  private final InvalidationBus invalidationBus;
+
+  public UserCacheInvalidationListener(UserCache userCache, InvalidationBus invalidationBus,
+      EntityManagerFactory entityManagerFactory) {
+    this.userCache = userCache;
+    this.invalidationBus = invalidationBus;
+
+    EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+        .getServiceRegistry()
+        .requireService(EventListenerRegistry.class);
+    registry.appendListeners(EventType.POST_INSERT, this);
+    registry.appendListeners(EventType.POST_UPDATE, this);
+    registry.appendListeners(EventType.POST_DELETE, this);
+  }
+
+  @Override
+  public void onPostInsert(PostInsertEvent event) {
+    if (event.getEntity() instanceof User user) {
+      evict(user.getEmail());
+    }
+  }
+
+  @Override
+  public void onPostUpdate(PostUpdateEvent event) {
+    if (!(event.getEntity() instanceof User user)) {
+      return;
+    }
+    evict(user.getEmail());
+    String previous = previousEmail(event);
+    if (previous != null && !previous.equals(user.getEmail())) {
+      evict(previous);
+    }
+  }
+
+  @Override
+  public void onPostDelete(PostDeleteEvent event) {
+    if (event.getEntity() instanceof User user) {
+      evict(user.getEmail());
+    }
+  }
+
+  private static String previousEmail(PostUpdateEvent event) {
+    Object[] oldState = event.getOldState();
+    if (oldState == null) {
+      return null;
+    }
+    String[] names = event.getPersister().getPropertyNames();
+    for (int i = 0; i < names.length; i++) {
+      if (EMAIL.equals(names[i])) {
+        return (String) oldState[i];
+      }
+    }
+    return null;
+  }
+
+  private void evict(String email) {
+    userCache.evict(email);
+    invalidationBus.publish(InvalidationMessage.user(email));
+  }
+}
@@ -0,0 +1,57 @@
+package com.sample.poc.infrastructure.config;
+
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.sample.poc.infrastructure.logging.MdcTaskDecorator;
+
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+  public static final String TASK_LIST_PURGE_EXECUTOR = "taskListPurgeExecutor";
+  public static final String CHANGE_FEED_EXECUTOR = "changeFeedExecutor";
+
+  /**
+   * Small dedicated pool for background task list deletions, so a burst of
+   * large deletes can't starve request threads or the connection pool.
+   */
+  @Bean(name = TASK_LIST_PURGE_EXECUTOR)
+  public Executor taskListPurgeExecutor(
+      @Value("${app.tasklists.purge.threads:2}") int threads,
+      @Value("${app.tasklists.purge.queue-capacity:100}") int queueCapacity) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setThreadNamePrefix("tasklist-purge-");
+    executor.setCorePoolSize(threads);
+    executor.setMaxPoolSize(threads);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setTaskDecorator(new MdcTaskDecorator());
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * Writes change-feed events to the open SSE connections, off the request
+   * threads that commit the changes. A blocked write holds one of these
+   * threads, never a writer.
+   */
+  @Bean(name = CHANGE_FEED_EXECUTOR)
+  public Executor changeFeedExecutor(
+      @Value("${app.sse.sender-threads:4}") int threads,
+      @Value("${app.sse.sender-queue-capacity:10000}") int queueCapacity) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setThreadNamePrefix("change-feed-");
+    executor.setCorePoolSize(threads);
+    executor.setMaxPoolSize(threads);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setTaskDecorator(new MdcTaskDecorator());
+    executor.initialize();
+    return executor;
+  }
+}
@@ -0,0 +1,41 @@
+package com.sample.poc.infrastructure.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import com.sample.poc.infrastructure.persistence.ConcurrencyLimitedDataSource;
+
+/**
+ * Wraps the application {@link DataSource} in a
+ * {@link ConcurrencyLimitedDataSource}. The limit defaults to the Hikari pool
+ * size, so the semaphore is the only place requests wait for a connection.
+ */
+@Component
+public class DataSourceConcurrencyConfig implements BeanPostProcessor, EnvironmentAware {
+
+  private Environment environment;
+
+  @Override
+  public void setEnvironment(Environment environment) {
+    this.environment = environment;
+  }
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    if (!(bean instanceof DataSource dataSource) || bean instanceof ConcurrencyLimitedDataSource
+        || !environment.getProperty("app.datasource.concurrency-limit.enabled", Boolean.class, true)) {
+      return bean;
+    }
+
+    int poolSize = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+    int maxConcurrency = environment.getProperty("app.datasource.concurrency-limit.max-concurrency", Integer.class,
+        poolSize);
+    long acquireTimeoutMs = environment.getProperty("app.datasource.concurrency-limit.acquire-timeout", Long.class,
+        5000L);
+    return new ConcurrencyLimitedDataSource(dataSource, maxConcurrency, acquireTimeoutMs);
+  }
+}
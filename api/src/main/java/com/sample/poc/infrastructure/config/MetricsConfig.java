@@ -0,0 +1,47 @@
+package com.sample.poc.infrastructure.config;
+
+import javax.sql.DataSource;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.sample.poc.infrastructure.persistence.ConcurrencyLimitedDataSource;
+import com.sample.poc.infrastructure.persistence.StatementCounter;
+import com.sample.poc.infrastructure.persistence.StatementTimingListener;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Metrics beyond what Boot binds on its own (HTTP timers, Hikari pool,
+ * Hibernate statistics): per-request statement counts and the database
+ * concurrency limit, where requests actually wait for a connection.
+ */
+@Configuration
+public class MetricsConfig {
+
+  @Bean
+  public HibernatePropertiesCustomizer statementMetricsCustomizer() {
+    return hibernateProperties -> {
+      hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, new StatementCounter());
+      hibernateProperties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, StatementTimingListener.class.getName());
+      hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, true);
+    };
+  }
+
+  @Bean
+  public MeterBinder databaseConcurrencyMetrics(DataSource dataSource) {
+    return registry -> {
+      if (dataSource instanceof ConcurrencyLimitedDataSource limited) {
+        Gauge.builder("db.concurrency.available", limited, ConcurrencyLimitedDataSource::getAvailablePermits)
+            .description("Database permits free under app.datasource.concurrency-limit")
+            .register(registry);
+        Gauge.builder("db.concurrency.waiting", limited, ConcurrencyLimitedDataSource::getQueueLength)
+            .description("Requests queued for a database permit")
+            .register(registry);
+      }
+    };
+  }
+}
@@ -0,0 +1,70 @@
+package com.sample.poc.infrastructure.config;
+
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.sample.poc.infrastructure.cache.SecondLevelCacheProperties;
+
+/**
+ * Hibernate second-level and query cache on JCache, backed by Caffeine. The
+ * regions are created here from {@link SecondLevelCacheProperties}, each with
+ * its own size bound, and Hibernate is told to fail on any other region rather
+ * than create an unbounded one. Hit, miss and put counts per region are
+ * published as {@code hibernate.second.level.cache.*} metrics.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.cache.l2.enabled", havingValue = "true", matchIfMissing = true)
+public class SecondLevelCacheConfig {
+
+  @Bean(destroyMethod = "close")
+  public CacheManager secondLevelCacheManager(SecondLevelCacheProperties properties) {
+    // One manager per application context: test runs start several in one JVM.
+    CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+        .getCacheManager(URI.create("tasklist-l2-" + UUID.randomUUID()), getClass().getClassLoader());
+
+    properties.getRegions().forEach((name, region) -> cacheManager.createCache(name,
+        configuration(OptionalLong.of(region.getMaxSize()), OptionalLong.of(region.getTtl().toNanos()))));
+    cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+        configuration(OptionalLong.of(properties.getQueryResultsMaxSize()), OptionalLong.empty()));
+    // Never evicted: a lost table timestamp would let stale query results through.
+    cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+        configuration(OptionalLong.empty(), OptionalLong.empty()));
+    return cacheManager;
+  }
+
+  @Bean
+  public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+    return hibernateProperties -> {
+      hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+      hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, true);
+      hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+      hibernateProperties.put("hibernate.javax.cache.cache_manager", secondLevelCacheManager);
+      hibernateProperties.put("hibernate.javax.cache.missing_cache_strategy", "fail");
+      // Tasks are added through Task.taskList, the owning side; without this the
+      // cached TaskList.tasks collections would keep their old contents.
+      hibernateProperties.put(AvailableSettings.AUTO_EVICT_COLLECTION_CACHE, true);
+      hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, true);
+    };
+  }
+
+  private static CaffeineConfiguration<Object, Object> configuration(OptionalLong maxSize, OptionalLong ttlNanos) {
+    CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+    configuration.setMaximumSize(maxSize);
+    configuration.setExpireAfterWrite(ttlNanos);
+    configuration.setStatisticsEnabled(true);
+    return configuration;
+  }
+}
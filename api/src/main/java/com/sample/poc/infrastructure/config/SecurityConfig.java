@@ -1,10 +1,15 @@
 package com.sample.poc.infrastructure.config;
 
+import com.sample.poc.infrastructure.ratelimit.RateLimitFilter;
+import com.sample.poc.infrastructure.security.BoundedPasswordEncoder;
 import com.sample.poc.infrastructure.security.JwtFilter;
+import com.sample.poc.infrastructure.security.ManagementPortRequestMatcher;
+import com.sample.poc.infrastructure.security.PasswordHashingExecutor;
 import lombok.AllArgsConstructor;
 
 import java.util.Arrays;
 
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -23,10 +28,23 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 @AllArgsConstructor
 public class SecurityConfig {
   private final JwtFilter jwtFilter;
+  private final RateLimitFilter rateLimitFilter;
+  private final ManagementPortRequestMatcher managementPortRequestMatcher;
 
+  /**
+   * Keeps the rate limit filter out of the servlet container chain; it only
+   * runs inside the security chain, after the JWT has been read.
+   */
   @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
+  FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration() {
+    FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+    registration.setEnabled(false);
+    return registration;
+  }
+
+  @Bean
+  public PasswordEncoder passwordEncoder(PasswordHashingExecutor passwordHashingExecutor) {
+    return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), passwordHashingExecutor);
   }
 
   @Bean
@@ -48,12 +66,16 @@ public class SecurityConfig {
         .csrf(csrf -> csrf.disable())
         .cors(cors -> cors.configurationSource(corsConfigurationSource()))
         .authorizeHttpRequests(auth -> auth
+            .requestMatchers(HttpMethod.POST, "/api/auth/logout").authenticated()
             .requestMatchers(HttpMethod.POST, "/api/auth/**").permitAll()
             .requestMatchers(HttpMethod.GET, "/api/auth/**").permitAll()
+            .requestMatchers("/api/admin/**").hasRole("ADMIN")
+            .requestMatchers(managementPortRequestMatcher).permitAll()
             .anyRequest().authenticated())
         .headers(headers -> headers.frameOptions(config -> config.disable())); 
 
     http.addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class);
+    http.addFilterAfter(rateLimitFilter, JwtFilter.class);
 
     return http.build();
   }
@@ -0,0 +1,29 @@
+package com.sample.poc.infrastructure.config;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Request threading. {@code spring.threads.virtual.enabled} only takes effect
+ * on a JDK 21+ runtime and Spring Boot ignores it silently below that, so a
+ * switch that is on but inert is reported at startup.
+ */
+@Slf4j
+@Configuration
+public class ThreadingConfig {
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void reportThreading(ApplicationReadyEvent event) {
+    Environment environment = event.getApplicationContext().getEnvironment();
+    boolean requested = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+    if (requested && !Threading.VIRTUAL.isActive(environment)) {
+      log.warn("spring.threads.virtual.enabled ignorado: virtual threads exigem JDK 21+ (JDK atual: {})",
+          Runtime.version().feature());
+    }
+  }
+}
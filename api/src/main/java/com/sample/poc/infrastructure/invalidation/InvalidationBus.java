@@ -0,0 +1,243 @@
+package com.sample.poc.infrastructure.invalidation;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.sample.poc.application.event.ChangeEvent;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Cross-node invalidation over PostgreSQL {@code LISTEN/NOTIFY}.
+ * <p>
+ * {@link #publish} issues {@code pg_notify} on the caller's connection. Inside
+ * a transaction PostgreSQL holds the notification until commit and drops it
+ * on rollback, so other nodes never evict for a write that didn't happen.
+ * <p>
+ * Each node listens on its own connection, opened outside the pool so it
+ * doesn't hold a pool slot or a concurrency-limit permit. Every notification
+ * from another node is re-published as an {@link InvalidationMessage}
+ * application event for the local caches. When the connection drops, the
+ * listener reconnects with exponential backoff. Notifications sent while it
+ * was down are lost, so after a reconnect it publishes
+ * {@link InvalidationMessage.Type#ALL} and the handlers drop what they cache.
+ */
+@Slf4j
+@Component
+public class InvalidationBus {
+
+  /** PostgreSQL rejects payloads of 8000 bytes or more. */
+  static final int MAX_PAYLOAD_BYTES = 7900;
+
+  private static final Pattern CHANNEL = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+
+  private final String nodeId = UUID.randomUUID().toString();
+
+  private final JdbcTemplate jdbcTemplate;
+  private final ObjectMapper objectMapper;
+  private final ApplicationEventPublisher eventPublisher;
+  private final boolean enabled;
+  private final String channel;
+  private final String url;
+  private final String username;
+  private final String password;
+  private final int pollTimeoutMs;
+  private final long reconnectDelayMs;
+  private final long maxReconnectDelayMs;
+
+  private volatile boolean running;
+  private volatile Connection connection;
+  private Thread listener;
+
+  public InvalidationBus(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+      ApplicationEventPublisher eventPublisher,
+      @Value("${app.invalidation.enabled:false}") boolean enabled,
+      @Value("${app.invalidation.channel:tasklist_invalidation}") String channel,
+      @Value("${spring.datasource.url:}") String url,
+      @Value("${spring.datasource.username:}") String username,
+      @Value("${spring.datasource.password:}") String password,
+      @Value("${app.invalidation.poll-timeout:10000}") int pollTimeoutMs,
+      @Value("${app.invalidation.reconnect-delay:1000}") long reconnectDelayMs,
+      @Value("${app.invalidation.max-reconnect-delay:30000}") long maxReconnectDelayMs) {
+    if (!CHANNEL.matcher(channel).matches()) {
+      // LISTEN takes an identifier, not a bind parameter.
+      throw new IllegalArgumentException("Canal de invalidação inválido: " + channel);
+    }
+    this.jdbcTemplate = jdbcTemplate;
+    this.objectMapper = objectMapper;
+    this.eventPublisher = eventPublisher;
+    this.enabled = enabled;
+    this.channel = channel;
+    this.url = url;
+    this.username = username;
+    this.password = password;
+    this.pollTimeoutMs = pollTimeoutMs;
+    this.reconnectDelayMs = reconnectDelayMs;
+    this.maxReconnectDelayMs = maxReconnectDelayMs;
+  }
+
+  @PostConstruct
+  void start() {
+    if (!enabled) {
+      return;
+    }
+    running = true;
+    listener = new Thread(this::listen, "invalidation-listener");
+    listener.setDaemon(true);
+    listener.start();
+  }
+
+  @PreDestroy
+  void stop() {
+    running = false;
+    closeConnection();
+    if (listener != null) {
+      listener.interrupt();
+    }
+  }
+
+  public String getNodeId() {
+    return nodeId;
+  }
+
+  /**
+   * Sends {@code message} to the other nodes. It is not applied locally; the
+   * caller has already done that.
+   */
+  public void publish(InvalidationMessage message) {
+    if (!enabled) {
+      return;
+    }
+    String payload = encode(message);
+    jdbcTemplate.query("select pg_notify(?, ?)", rs -> null, channel, payload);
+  }
+
+  /**
+   * Forwards committed changes so change feeds on other nodes see them.
+   * Runs in the publishing transaction, so the notification commits with it.
+   */
+  @EventListener
+  public void onChange(ChangeEvent event) {
+    publish(InvalidationMessage.change(event));
+  }
+
+  String encode(InvalidationMessage message) {
+    String payload = objectMapper.writeValueAsString(message.withOrigin(nodeId));
+    if (payload.getBytes(StandardCharsets.UTF_8).length > MAX_PAYLOAD_BYTES && message.change() != null) {
+      // Too many ids to fit: send none, which tells feed clients to reload.
+      ChangeEvent change = message.change();
+      payload = objectMapper.writeValueAsString(InvalidationMessage.change(new ChangeEvent(change.userId(),
+          change.entity(), change.action(), change.taskListId(), List.of())).withOrigin(nodeId));
+    }
+    return payload;
+  }
+
+  /**
+   * Applies one received payload. Our own notifications and ones that can't
+   * be read are skipped.
+   */
+  public void receive(String payload) {
+    InvalidationMessage message;
+    try {
+      message = objectMapper.readValue(payload, InvalidationMessage.class);
+    } catch (JacksonException e) {
+      log.warn("Notificação de invalidação ignorada: {}", payload);
+      return;
+    }
+    if (message.type() == InvalidationMessage.Type.ALL || nodeId.equals(message.origin())) {
+      return;
+    }
+    try {
+      eventPublisher.publishEvent(message);
+    } catch (RuntimeException e) {
+      // A failing handler must not tear down the listening connection.
+      log.error("Falha ao aplicar a invalidação {}", message, e);
+    }
+  }
+
+  private void listen() {
+    long delay = reconnectDelayMs;
+    boolean connectedBefore = false;
+    while (running) {
+      try {
+        connect();
+        delay = reconnectDelayMs;
+        if (connectedBefore) {
+          log.info("Escuta de invalidação restabelecida; descartando caches locais");
+          eventPublisher.publishEvent(InvalidationMessage.all(nodeId));
+        }
+        connectedBefore = true;
+        poll();
+      } catch (SQLException | RuntimeException e) {
+        if (!running) {
+          return;
+        }
+        log.warn("Conexão de escuta de invalidação perdida; nova tentativa em {} ms", delay, e);
+      } finally {
+        closeConnection();
+      }
+      try {
+        Thread.sleep(delay);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      delay = Math.min(delay * 2, maxReconnectDelayMs);
+    }
+  }
+
+  private void connect() throws SQLException {
+    Connection opened = DriverManager.getConnection(url, username, password);
+    connection = opened;
+    try (Statement statement = opened.createStatement()) {
+      statement.execute("LISTEN " + channel);
+    }
+  }
+
+  private void poll() throws SQLException {
+    PGConnection pgConnection = connection.unwrap(PGConnection.class);
+    while (running) {
+      PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMs);
+      if (notifications == null || notifications.length == 0) {
+        // A half-open TCP connection just looks idle; probe it.
+        if (!connection.isValid(5)) {
+          throw new SQLException("Conexão de escuta inválida");
+        }
+        continue;
+      }
+      for (PGNotification notification : notifications) {
+        receive(notification.getParameter());
+      }
+    }
+  }
+
+  private void closeConnection() {
+    Connection current = connection;
+    connection = null;
+    if (current != null) {
+      try {
+        current.close();
+      } catch (SQLException e) {
+        // Already broken; nothing to release.
+      }
+    }
+  }
+}
@@ -0,0 +1,43 @@
+package com.sample.poc.infrastructure.invalidation;
+
+import com.sample.poc.application.event.ChangeEvent;
+
+/**
+ * A notification carried between nodes by {@link InvalidationBus}, and
+ * re-published as an application event on every node except {@code origin}.
+ * {@link Type#ALL} is never sent: a node raises it locally after it may have
+ * missed messages, and handlers then drop everything they cache.
+ */
+public record InvalidationMessage(String origin, Type type, String key, ChangeEvent change) {
+
+  public enum Type {
+    /** A user row changed; {@code key} is the email. */
+    USER,
+    /** An access token was revoked; {@code key} is its jti. */
+    TOKEN,
+    /** A committed task or task list change, for the change feed. */
+    CHANGE,
+    /** Messages may have been lost. */
+    ALL
+  }
+
+  public static InvalidationMessage user(String email) {
+    return new InvalidationMessage(null, Type.USER, email, null);
+  }
+
+  public static InvalidationMessage token(String tokenId) {
+    return new InvalidationMessage(null, Type.TOKEN, tokenId, null);
+  }
+
+  public static InvalidationMessage change(ChangeEvent change) {
+    return new InvalidationMessage(null, Type.CHANGE, null, change);
+  }
+
+  public static InvalidationMessage all(String origin) {
+    return new InvalidationMessage(origin, Type.ALL, null, null);
+  }
+
+  InvalidationMessage withOrigin(String origin) {
+    return new InvalidationMessage(origin, type, key, change);
+  }
+}
@@ -0,0 +1,36 @@
+package com.sample.poc.infrastructure.logging;
+
+import java.util.Map;
+
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Copies the submitting thread's MDC (the request's correlation id) onto the
+ * pooled thread for the duration of the task, and clears it afterwards so it
+ * can't leak into the next task.
+ */
+public class MdcTaskDecorator implements TaskDecorator {
+
+  @Override
+  public Runnable decorate(Runnable runnable) {
+    Map<String, String> context = MDC.getCopyOfContextMap();
+    return () -> {
+      Map<String, String> previous = MDC.getCopyOfContextMap();
+      if (context != null) {
+        MDC.setContextMap(context);
+      } else {
+        MDC.clear();
+      }
+      try {
+        runnable.run();
+      } finally {
+        if (previous != null) {
+          MDC.setContextMap(previous);
+        } else {
+          MDC.clear();
+        }
+      }
+    };
+  }
+}
@@ -0,0 +1,81 @@
+package com.sample.poc.infrastructure.metrics;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.sample.poc.infrastructure.persistence.StatementBudget;
+import com.sample.poc.infrastructure.persistence.StatementCounter;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Records how many SQL statements each request issued and how long they ran,
+ * per route, as {@code http.server.requests.statements} and
+ * {@code http.server.requests.db}, then holds the request to the
+ * {@link StatementBudget}. Runs ahead of the security chain so the principal
+ * lookup is included.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class StatementCountFilter extends OncePerRequestFilter {
+
+  private final MeterRegistry meterRegistry;
+  private final StatementBudget statementBudget;
+
+  public StatementCountFilter(MeterRegistry meterRegistry, StatementBudget statementBudget) {
+    this.meterRegistry = meterRegistry;
+    this.statementBudget = statementBudget;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+      throws ServletException, IOException {
+    StatementCounter.Stats stats;
+    StatementCounter.start();
+    try {
+      chain.doFilter(request, response);
+    } finally {
+      stats = StatementCounter.stop();
+      record(request, stats);
+    }
+    // Only a request that otherwise succeeded is checked, so a budget failure never masks the real error.
+    statementBudget.check(request.getMethod(), uri(request), stats);
+  }
+
+  private void record(HttpServletRequest request, StatementCounter.Stats stats) {
+    String uri = uri(request);
+    DistributionSummary.builder("http.server.requests.statements")
+        .description("SQL statements prepared per request")
+        .baseUnit("statements")
+        .tag("method", request.getMethod())
+        .tag("uri", uri)
+        .publishPercentileHistogram()
+        .register(meterRegistry)
+        .record(stats.statements());
+    Timer.builder("http.server.requests.db")
+        .description("Time spent executing SQL per request")
+        .tag("method", request.getMethod())
+        .tag("uri", uri)
+        .publishPercentileHistogram()
+        .register(meterRegistry)
+        .record(stats.executionNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  private static String uri(HttpServletRequest request) {
+    // Same route template the http.server.requests timer uses; never the raw path.
+    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    return pattern != null ? pattern.toString() : "UNKNOWN";
+  }
+}
@@ -0,0 +1,164 @@
+package com.sample.poc.infrastructure.persistence;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.sample.poc.domain.model.ChangeTracked;
+import com.sample.poc.domain.model.SyncClock;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Commit-ordered sequence that delta sync pages by. Rows written in a
+ * transaction carry a random negative placeholder until, after Hibernate's
+ * last flush before commit, the transaction locks {@link SyncClock}, takes
+ * the next value and stamps it on them. The clock stays locked until commit,
+ * so a later sequence is only handed out once every earlier one is
+ * committed: a reader that sees a row with sequence N can never miss one with
+ * a lower sequence later.
+ * <p>
+ * Entities written through the persistence context are restamped one by one;
+ * bulk statements, and transactions writing more than {@link #BULK_THRESHOLD}
+ * rows of one type, write {@link #bulk(Class)} and are restamped with one
+ * update per type.
+ */
+@Component
+public class ChangeSequence {
+
+  static final int BULK_THRESHOLD = 50;
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  private final Map<SessionImplementor, Pending> pending = new ConcurrentHashMap<>();
+
+  /**
+   * Called for every insert and update of a {@link ChangeTracked} entity.
+   */
+  public void track(ChangeTracked entity) {
+    Pending pending = pending();
+    entity.setChangeSeq(pending.value());
+    pending.track(entity);
+  }
+
+  /**
+   * Value to write for {@code type} in a bulk insert or update; every row
+   * holding it is restamped before commit.
+   */
+  public long bulk(Class<? extends ChangeTracked> type) {
+    Pending pending = pending();
+    pending.bulkTypes.add(type);
+    return pending.value();
+  }
+
+  /**
+   * Highest sequence committed so far.
+   */
+  @Transactional(readOnly = true)
+  public long lastCommitted() {
+    return entityManager.find(SyncClock.class, SyncClock.ID).getLastSeq();
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional
+  public void initialize() {
+    if (entityManager.find(SyncClock.class, SyncClock.ID) == null) {
+      entityManager.persist(new SyncClock(SyncClock.ID, 0L));
+    }
+  }
+
+  private Pending pending() {
+    SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+    if (!session.isTransactionInProgress()) {
+      throw new IllegalStateException("Escrita de entidade sincronizada fora de uma transação");
+    }
+    return pending.computeIfAbsent(session, key -> {
+      Pending created = new Pending();
+      // Hibernate runs these after its own pre-commit flush, so updates found
+      // dirty only at commit are tracked as well.
+      key.getActionQueue().registerProcess((BeforeTransactionCompletionProcess) created);
+      key.getActionQueue().registerProcess((AfterTransactionCompletionProcess) created);
+      return created;
+    });
+  }
+
+  private final class Pending implements BeforeTransactionCompletionProcess, AfterTransactionCompletionProcess {
+
+    private final long placeholder = ThreadLocalRandom.current().nextLong(Long.MIN_VALUE, 0);
+    private final Map<Class<?>, Set<ChangeTracked>> entities = new HashMap<>();
+    private final Set<Class<?>> bulkTypes = new HashSet<>();
+    private Long seq;
+
+    long value() {
+      return seq != null ? seq : placeholder;
+    }
+
+    void track(ChangeTracked entity) {
+      Class<?> type = entity.getClass();
+      if (seq != null || bulkTypes.contains(type)) {
+        return;
+      }
+      Set<ChangeTracked> tracked = entities.computeIfAbsent(type,
+          key -> Collections.newSetFromMap(new IdentityHashMap<>()));
+      tracked.add(entity);
+      if (tracked.size() > BULK_THRESHOLD) {
+        entities.remove(type);
+        bulkTypes.add(type);
+      }
+    }
+
+    @Override
+    public void doBeforeTransactionCompletion(SessionImplementor session) {
+      if (entities.isEmpty() && bulkTypes.isEmpty()) {
+        return;
+      }
+      // Every row is written (and locked) before the clock is: a transaction
+      // holding the clock never waits for a row, so writers can't deadlock on it.
+      session.createMutationQuery("update SyncClock c set c.lastSeq = c.lastSeq + 1 where c.id = :id")
+          .setParameter("id", SyncClock.ID)
+          .executeUpdate();
+      seq = session.createSelectionQuery("select c.lastSeq from SyncClock c where c.id = :id", Long.class)
+          .setParameter("id", SyncClock.ID)
+          .getSingleResult();
+
+      entities.values().forEach(tracked -> tracked.forEach(entity -> {
+        if (session.contains(entity)) {
+          entity.setChangeSeq(seq);
+        } else {
+          bulkTypes.add(entity.getClass());
+        }
+      }));
+      session.flush();
+
+      for (Class<?> type : bulkTypes) {
+        session.createMutationQuery("update " + session.getMetamodel().entity(type).getName()
+            + " e set e.changeSeq = :seq where e.changeSeq = :placeholder")
+            .setParameter("seq", seq)
+            .setParameter("placeholder", placeholder)
+            .executeUpdate();
+      }
+    }
+
+    @Override
+    public void doAfterTransactionCompletion(boolean success, SharedSessionContractImplementor session) {
+      pending.remove(session);
+    }
+  }
+}
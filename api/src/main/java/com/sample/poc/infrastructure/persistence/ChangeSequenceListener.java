@@ -0,0 +1,30 @@
+package com.sample.poc.infrastructure.persistence;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+
+import com.sample.poc.domain.model.ChangeTracked;
+
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+
+/**
+ * JPA listener that hands every insert and update of a {@link ChangeTracked}
+ * entity to {@link ChangeSequence}. Instantiated by Hibernate through
+ * Spring's bean container while the entity manager factory is still being
+ * built, hence the lazy reference back to a bean that needs it.
+ */
+public class ChangeSequenceListener {
+
+  @Autowired
+  @Lazy
+  private ChangeSequence changeSequence;
+
+  @PrePersist
+  @PreUpdate
+  public void track(Object entity) {
+    if (changeSequence != null) {
+      changeSequence.track((ChangeTracked) entity);
+    }
+  }
+}
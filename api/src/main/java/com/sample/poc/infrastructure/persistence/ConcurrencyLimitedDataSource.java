@@ -0,0 +1,118 @@
+package com.sample.poc.infrastructure.persistence;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Caps the number of connections checked out at once with a fair semaphore,
+ * released when the connection is closed. With virtual threads the number of
+ * concurrent requests is no longer bounded by the servlet pool, so callers
+ * queue here (a virtual thread parks cheaply on a semaphore) for at most
+ * {@code acquireTimeoutMs} instead of piling onto the connection pool.
+ */
+public class ConcurrencyLimitedDataSource extends DelegatingDataSource {
+
+  private final Semaphore permits;
+  private final int maxConcurrency;
+  private final long acquireTimeoutMs;
+
+  public ConcurrencyLimitedDataSource(DataSource targetDataSource, int maxConcurrency, long acquireTimeoutMs) {
+    super(targetDataSource);
+    this.permits = new Semaphore(maxConcurrency, true);
+    this.maxConcurrency = maxConcurrency;
+    this.acquireTimeoutMs = acquireTimeoutMs;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    acquire();
+    return limited(obtain(() -> super.getConnection()));
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    acquire();
+    return limited(obtain(() -> super.getConnection(username, password)));
+  }
+
+  public int getMaxConcurrency() {
+    return maxConcurrency;
+  }
+
+  public int getAvailablePermits() {
+    return permits.availablePermits();
+  }
+
+  public int getQueueLength() {
+    return permits.getQueueLength();
+  }
+
+  private void acquire() throws SQLException {
+    try {
+      if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+        throw new SQLTransientConnectionException(
+            "No database permit available within " + acquireTimeoutMs + " ms (limit " + maxConcurrency + ")");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SQLTransientConnectionException("Interrupted while waiting for a database permit", e);
+    }
+  }
+
+  private Connection obtain(ConnectionSupplier supplier) throws SQLException {
+    try {
+      return supplier.get();
+    } catch (SQLException | RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  private Connection limited(Connection target) {
+    AtomicBoolean released = new AtomicBoolean();
+    return (Connection) Proxy.newProxyInstance(ConnectionProxy.class.getClassLoader(),
+        new Class<?>[] { ConnectionProxy.class },
+        (proxy, method, args) -> {
+          switch (method.getName()) {
+            case "equals":
+              return proxy == args[0];
+            case "hashCode":
+              return System.identityHashCode(proxy);
+            case "getTargetConnection":
+              return target;
+            default:
+              break;
+          }
+          if (method.getName().equals("close") && released.compareAndSet(false, true)) {
+            try {
+              return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+              throw e.getTargetException();
+            } finally {
+              permits.release();
+            }
+          }
+          try {
+            return method.invoke(target, args);
+          } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+          }
+        });
+  }
+
+  @FunctionalInterface
+  private interface ConnectionSupplier {
+    Connection get() throws SQLException;
+  }
+}
@@ -0,0 +1,84 @@
+package com.sample.poc.infrastructure.persistence;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.sample.poc.infrastructure.web.RouteMatcher;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Checks a request's {@link StatementCounter.Stats} against
+ * {@code app.sql.budget}, using the first matching route's limits when one
+ * applies. Over budget, logs the most repeated statement
+ * fingerprints (an N+1 shows up as one fingerprint run dozens of times) and,
+ * in fail mode, throws {@link StatementBudgetExceededException}.
+ */
+@Slf4j
+@Component
+public class StatementBudget {
+
+  private static final int MAX_FINGERPRINT_LENGTH = 300;
+
+  private final StatementBudgetProperties properties;
+  private final RouteMatcher<StatementBudgetProperties.Route> routes;
+
+  public StatementBudget(StatementBudgetProperties properties) {
+    this.properties = properties;
+    this.routes = new RouteMatcher<>(properties.getRoutes(),
+        StatementBudgetProperties.Route::getMethods, StatementBudgetProperties.Route::getPattern);
+  }
+
+  /**
+   * @param route the route template (as in the {@code uri} metric tag), never the raw path
+   */
+  public void check(String method, String route, StatementCounter.Stats stats) {
+    if (!properties.isEnabled()) {
+      return;
+    }
+    StatementBudgetProperties.Route override = routes.match(method, route).orElse(null);
+    int maxStatements = override != null && override.getMaxStatements() != null
+        ? override.getMaxStatements() : properties.getMaxStatements();
+    Duration maxTime = override != null && override.getMaxTime() != null
+        ? override.getMaxTime() : properties.getMaxTime();
+
+    boolean tooManyStatements = stats.statements() > maxStatements;
+    boolean tooSlow = stats.executionNanos() > maxTime.toNanos();
+    if (!tooManyStatements && !tooSlow) {
+      return;
+    }
+
+    String message = String.format("Orçamento de SQL excedido em %s %s: %d comandos em %d ms (limite %d comandos / %d ms); mais repetidos: %s",
+        method,
+        route,
+        stats.statements(),
+        TimeUnit.NANOSECONDS.toMillis(stats.executionNanos()),
+        maxStatements,
+        maxTime.toMillis(),
+        report(stats));
+
+    if (tooManyStatements && properties.isFailOnViolation()) {
+      throw new StatementBudgetExceededException(message);
+    }
+    log.warn(message);
+  }
+
+  private String report(StatementCounter.Stats stats) {
+    return stats.fingerprints().entrySet().stream()
+        .limit(properties.getReportedStatements())
+        .map(this::describe)
+        .collect(Collectors.joining(" | "));
+  }
+
+  private String describe(Map.Entry<String, Integer> entry) {
+    String sql = entry.getKey();
+    if (sql.length() > MAX_FINGERPRINT_LENGTH) {
+      sql = sql.substring(0, MAX_FINGERPRINT_LENGTH) + "...";
+    }
+    return entry.getValue() + "x " + sql;
+  }
+}
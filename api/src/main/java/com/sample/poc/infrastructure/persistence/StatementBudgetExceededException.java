@@ -0,0 +1,12 @@
+package com.sample.poc.infrastructure.persistence;
+
+/**
+ * Raised by {@link StatementBudget} in fail mode when a request issues more
+ * statements than allowed, typically a lazy association loaded in a loop.
+ */
+public class StatementBudgetExceededException extends IllegalStateException {
+
+  public StatementBudgetExceededException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,56 @@
+package com.sample.poc.infrastructure.persistence;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * {@code app.sql.budget.*}: how many statements and how much database time a
+ * single request may use before {@link StatementBudget} reports it. Bulk
+ * endpoints (import, batch, purge) get their own limits through
+ * {@code routes}, matched in order against the route template.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.sql.budget")
+public class StatementBudgetProperties {
+
+    private boolean enabled = true;
+
+    private int maxStatements = 20;
+
+    private Duration maxTime = Duration.ofMillis(250);
+
+    /**
+     * Throw instead of only logging when the statement count is exceeded
+     * (tests). Time is machine-dependent, so going over it only ever logs.
+     */
+    private boolean failOnViolation = false;
+
+    /** Most repeated statements included in the report. */
+    private int reportedStatements = 5;
+
+    private List<Route> routes = new ArrayList<>();
+
+    @Data
+    public static class Route {
+        private String name;
+
+        /** Path pattern matched against the route template, e.g. {@code /api/tasks/tasklist/{id}/import}. */
+        private String pattern;
+
+        /** HTTP methods the route applies to; empty means any. */
+        private List<String> methods = new ArrayList<>();
+
+        /** Overrides the global limit; null keeps it. */
+        private Integer maxStatements;
+
+        /** Overrides the global limit; null keeps it. */
+        private Duration maxTime;
+    }
+}
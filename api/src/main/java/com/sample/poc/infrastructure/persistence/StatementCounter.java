@@ -0,0 +1,104 @@
+package com.sample.poc.infrastructure.persistence;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread between
+ * {@link #start()} and {@link #stop()}, how long they took to execute (fed by
+ * {@link StatementTimingListener}) and how often each distinct statement ran,
+ * which is what gives an N+1 away. Threads that never started counting
+ * (schedulers, background purges) pay a single ThreadLocal read.
+ */
+public class StatementCounter implements StatementInspector {
+
+  /** Distinct statements remembered per request; the count itself is never capped. */
+  static final int MAX_DISTINCT = 64;
+
+  private static final ThreadLocal<Context> CONTEXT = new ThreadLocal<>();
+
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+  private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+  private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+  private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+
+  @Override
+  public String inspect(String sql) {
+    Context context = CONTEXT.get();
+    if (context != null) {
+      context.statements++;
+      // Raw SQL is cheap to hash; fingerprinting waits until someone reports on it.
+      if (context.distinct.size() < MAX_DISTINCT || context.distinct.containsKey(sql)) {
+        context.distinct.merge(sql, 1, Integer::sum);
+      }
+    }
+    return sql;
+  }
+
+  public static void start() {
+    CONTEXT.set(new Context());
+  }
+
+  /**
+   * What ran since {@link #start()}; empty if counting wasn't started.
+   */
+  public static Stats stop() {
+    Context context = CONTEXT.get();
+    CONTEXT.remove();
+    if (context == null) {
+      return new Stats(0, 0, Map.of());
+    }
+    return new Stats(context.statements, context.executionNanos, context.distinct);
+  }
+
+  static void recordExecution(long nanos) {
+    Context context = CONTEXT.get();
+    if (context != null) {
+      context.executionNanos += nanos;
+    }
+  }
+
+  /**
+   * Normalizes a statement so variants of the same query compare equal:
+   * literals become {@code ?} and IN lists of any length collapse to
+   * {@code (?...)}.
+   */
+  public static String fingerprint(String sql) {
+    String normalized = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+    normalized = STRING_LITERAL.matcher(normalized).replaceAll("?");
+    normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+    return PARAMETER_LIST.matcher(normalized).replaceAll("(?...)");
+  }
+
+  private static final class Context {
+    private long statements;
+    private long executionNanos;
+    private final Map<String, Integer> distinct = new HashMap<>();
+  }
+
+  /**
+   * @param statements     statements prepared
+   * @param executionNanos time spent executing them on the database
+   * @param distinct       raw SQL to the number of times it ran, for the first
+   *                       {@value StatementCounter#MAX_DISTINCT} distinct statements
+   */
+  public record Stats(long statements, long executionNanos, Map<String, Integer> distinct) {
+
+    /**
+     * Executions per fingerprint, most repeated first.
+     */
+    public Map<String, Integer> fingerprints() {
+      Map<String, Integer> merged = new HashMap<>();
+      distinct.forEach((sql, count) -> merged.merge(fingerprint(sql), count, Integer::sum));
+      Map<String, Integer> sorted = new LinkedHashMap<>();
+      merged.entrySet().stream()
+          .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+          .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+      return sorted;
+    }
+  }
+}
@@ -0,0 +1,34 @@
+package com.sample.poc.infrastructure.persistence;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Adds the time each JDBC execution takes to the current {@link StatementCounter}
+ * window. Hibernate creates one per session ({@code hibernate.session.events.auto}),
+ * so the start timestamp needs no synchronization.
+ */
+public class StatementTimingListener implements SessionEventListener {
+
+  private long executeStart;
+  private long batchStart;
+
+  @Override
+  public void jdbcExecuteStatementStart() {
+    executeStart = System.nanoTime();
+  }
+
+  @Override
+  public void jdbcExecuteStatementEnd() {
+    StatementCounter.recordExecution(System.nanoTime() - executeStart);
+  }
+
+  @Override
+  public void jdbcExecuteBatchStart() {
+    batchStart = System.nanoTime();
+  }
+
+  @Override
+  public void jdbcExecuteBatchEnd() {
+    StatementCounter.recordExecution(System.nanoTime() - batchStart);
+  }
+}
@@ -0,0 +1,108 @@
+package com.sample.poc.infrastructure.ratelimit;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import com.sample.poc.infrastructure.web.RouteMatcher;
+import com.sample.poc.presentation.exception.ErrorResponse;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Token-bucket rate limiting, placed after {@code JwtFilter} so requests are
+ * keyed by the token subject; {@code IP} routes (login/register) and anonymous
+ * requests are keyed by client address. Sends the {@code RateLimit-*} headers
+ * on every limited response and 429 with {@code Retry-After} when empty.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+  private final RateLimitProperties properties;
+  private final RateLimiter rateLimiter;
+  private final ObjectMapper objectMapper;
+  private final RouteMatcher<RateLimitProperties.Route> routes;
+  private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+  public RateLimitFilter(RateLimitProperties properties, RateLimiter rateLimiter, ObjectMapper objectMapper) {
+    this.properties = properties;
+    this.rateLimiter = rateLimiter;
+    this.objectMapper = objectMapper;
+    this.routes = new RouteMatcher<>(properties.getRoutes(),
+        RateLimitProperties.Route::getMethods, RateLimitProperties.Route::getPattern);
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !properties.isEnabled() || "OPTIONS".equals(request.getMethod());
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      FilterChain chain) throws ServletException, IOException {
+    String path = urlPathHelper.getPathWithinApplication(request);
+    RateLimitProperties.Route route = routes.match(request.getMethod(), path).orElse(null);
+    String routeName = route != null ? route.getName() : "default";
+    RateLimitProperties.Limit limit = route != null ? route : properties.getDefaultLimit();
+
+    TokenBucket.Probe probe = rateLimiter.tryConsume(routeName + "|" + clientKey(request, limit), limit);
+
+    long periodSeconds = limit.getPeriod().toSeconds();
+    response.setHeader("RateLimit-Policy", limit.getCapacity() + ";w=" + periodSeconds);
+    response.setHeader("RateLimit-Limit", String.valueOf(probe.limit()));
+    response.setHeader("RateLimit-Remaining", String.valueOf(probe.remaining()));
+    response.setHeader("RateLimit-Reset", String.valueOf(toSeconds(probe.resetNanos())));
+
+    if (!probe.allowed()) {
+      reject(request, response, Math.max(1, toSeconds(probe.retryAfterNanos())));
+      return;
+    }
+
+    chain.doFilter(request, response);
+  }
+
+  private String clientKey(HttpServletRequest request, RateLimitProperties.Limit limit) {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (limit.getKey() == RateLimitProperties.KeyType.USER && authentication != null
+        && authentication.isAuthenticated() && !(authentication instanceof AnonymousAuthenticationToken)) {
+      return "user:" + authentication.getName();
+    }
+    return "ip:" + request.getRemoteAddr();
+  }
+
+  private void reject(HttpServletRequest request, HttpServletResponse response, long retryAfterSeconds)
+      throws IOException {
+    ErrorResponse errorResponse = ErrorResponse.builder()
+        .timestamp(LocalDateTime.now())
+        .status(HttpStatus.TOO_MANY_REQUESTS.value())
+        .error("Muitas Requisições")
+        .message("Limite de requisições excedido, tente novamente em " + retryAfterSeconds + "s")
+        .path(request.getRequestURI())
+        .build();
+
+    response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+    response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.setCharacterEncoding("UTF-8");
+    objectMapper.writeValue(response.getOutputStream(), errorResponse);
+  }
+
+  private static long toSeconds(long nanos) {
+    return TimeUnit.NANOSECONDS.toSeconds(nanos + TimeUnit.SECONDS.toNanos(1) - 1);
+  }
+}
@@ -0,0 +1,62 @@
+package com.sample.poc.infrastructure.ratelimit;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * {@code app.rate-limit.*}: per-route token buckets. Routes are matched in
+ * order by path pattern (and optionally method); unmatched requests use
+ * {@code default-limit}.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /** Buckets untouched for this long (and full again) are dropped. */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    private Limit defaultLimit = new Limit();
+
+    private List<Route> routes = new ArrayList<>();
+
+    public enum KeyType {
+        /** The authenticated user (JWT subject), falling back to IP when anonymous. */
+        USER,
+        /** The client address. */
+        IP
+    }
+
+    @Data
+    public static class Limit {
+        /** Burst size: requests allowed at once on a full bucket. */
+        private int capacity = 300;
+
+        /** Time to refill an empty bucket, i.e. capacity requests per period. */
+        private Duration period = Duration.ofMinutes(1);
+
+        private KeyType key = KeyType.USER;
+    }
+
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    @ToString(callSuper = true)
+    public static class Route extends Limit {
+        private String name;
+
+        private String pattern;
+
+        /** HTTP methods the route applies to; empty means any. */
+        private List<String> methods = new ArrayList<>();
+    }
+}
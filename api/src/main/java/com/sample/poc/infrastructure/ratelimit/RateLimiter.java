@@ -0,0 +1,53 @@
+package com.sample.poc.infrastructure.ratelimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Registry of token buckets keyed by route and client. Idle buckets are swept
+ * opportunistically by whichever request first finds the sweep due, so there
+ * is no background thread and no global lock.
+ */
+@Component
+public class RateLimiter {
+
+  private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+  private final AtomicLong nextSweep;
+  private final long idleNanos;
+  private final LongSupplier clock;
+
+  @Autowired
+  public RateLimiter(RateLimitProperties properties) {
+    this(properties, System::nanoTime);
+  }
+
+  public RateLimiter(RateLimitProperties properties, LongSupplier clock) {
+    this.idleNanos = properties.getIdleTimeout().toNanos();
+    this.clock = clock;
+    this.nextSweep = new AtomicLong(clock.getAsLong() + idleNanos);
+  }
+
+  public TokenBucket.Probe tryConsume(String key, RateLimitProperties.Limit limit) {
+    long now = clock.getAsLong();
+    sweepIfDue(now);
+    TokenBucket bucket = buckets.computeIfAbsent(key,
+        k -> new TokenBucket(limit.getCapacity(), limit.getPeriod().toNanos(), now));
+    return bucket.tryConsume(now);
+  }
+
+  public int size() {
+    return buckets.size();
+  }
+
+  private void sweepIfDue(long now) {
+    long due = nextSweep.get();
+    if (now - due >= 0 && nextSweep.compareAndSet(due, now + idleNanos)) {
+      buckets.values().removeIf(bucket -> bucket.isIdle(now, idleNanos));
+    }
+  }
+}
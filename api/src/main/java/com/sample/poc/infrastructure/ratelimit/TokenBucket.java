@@ -0,0 +1,54 @@
+package com.sample.poc.infrastructure.ratelimit;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free token bucket: the whole state is swapped with a CAS, refilling
+ * lazily from the elapsed time on every call.
+ */
+public class TokenBucket {
+
+  private final int capacity;
+  private final double tokensPerNano;
+  private final AtomicReference<State> state;
+
+  public TokenBucket(int capacity, long periodNanos, long now) {
+    this.capacity = capacity;
+    this.tokensPerNano = capacity / (double) periodNanos;
+    this.state = new AtomicReference<>(new State(capacity, now));
+  }
+
+  public Probe tryConsume(long now) {
+    while (true) {
+      State current = state.get();
+      double tokens = available(current, now);
+      boolean allowed = tokens >= 1;
+      State next = new State(allowed ? tokens - 1 : tokens, Math.max(now, current.updatedAt()));
+      if (state.compareAndSet(current, next)) {
+        long retryAfterNanos = allowed ? 0 : (long) Math.ceil((1 - next.tokens()) / tokensPerNano);
+        long resetNanos = (long) Math.ceil((capacity - next.tokens()) / tokensPerNano);
+        return new Probe(allowed, capacity, (int) Math.floor(next.tokens()), retryAfterNanos, resetNanos);
+      }
+    }
+  }
+
+  /**
+   * True once the bucket has been idle for {@code idleNanos} and has refilled,
+   * so dropping it is indistinguishable from keeping it.
+   */
+  public boolean isIdle(long now, long idleNanos) {
+    State current = state.get();
+    return now - current.updatedAt() >= idleNanos && available(current, now) >= capacity;
+  }
+
+  private double available(State current, long now) {
+    long elapsed = Math.max(0, now - current.updatedAt());
+    return Math.min(capacity, current.tokens() + elapsed * tokensPerNano);
+  }
+
+  private record State(double tokens, long updatedAt) {
+  }
+
+  public record Probe(boolean allowed, int limit, int remaining, long retryAfterNanos, long resetNanos) {
+  }
+}
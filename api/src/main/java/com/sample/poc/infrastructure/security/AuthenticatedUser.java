@@ -0,0 +1,15 @@
+package com.sample.poc.infrastructure.security;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+/**
+ * Lightweight request principal built straight from verified JWT claims,
+ * used instead of loading the {@code User} entity on every request.
+ */
+public record AuthenticatedUser(Long id, String email) implements AuthenticatedPrincipal {
+
+  @Override
+  public String getName() {
+    return email;
+  }
+}
@@ -16,6 +16,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
@@ -32,8 +33,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && tokenProvider.isTokenValid(jwt)) {
-                String email = tokenProvider.getEmailFromToken(jwt);
+            Optional<JwtClaims> claims = StringUtils.hasText(jwt) ? tokenProvider.validateToken(jwt) : Optional.empty();
+            if (claims.isPresent()) {
+                String email = claims.get().subject();
                 UserDetails userDetails = userDetailsService.loadUserByUsername(email);
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                         userDetails, null, userDetails.getAuthorities());
@@ -0,0 +1,12 @@
+package com.sample.poc.infrastructure.security;
+
+import java.time.Instant;
+
+/**
+ * Immutable view of the claims of a token whose signature and expiry have
+ * already been verified by {@link JwtUtil#validateToken(String)}.
+ * {@code userId} and {@code tokenId} (the {@code jti}) are null for tokens
+ * issued before those claims were added.
+ */
+public record JwtClaims(String subject, Long userId, Instant expiresAt, Instant issuedAt, String tokenId) {
+}
@@ -1,8 +1,15 @@
 package com.sample.poc.infrastructure.security;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -10,6 +17,8 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,13 +27,37 @@ import jakarta.servlet.http.HttpServletResponse;
 @Component
 public class JwtFilter extends OncePerRequestFilter {
 
+  /** Request attribute holding the verified {@link JwtClaims} of the bearer token. */
+  public static final String CLAIMS_ATTRIBUTE = JwtFilter.class.getName() + ".claims";
+
+  private static final List<GrantedAuthority> ADMIN_AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_ADMIN"));
+
   private final JwtUtil jwtUtil;
 
   private final UserDetailsService userDetailsService;
 
-  public JwtFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService) {
+  private final TokenDenyList tokenDenyList;
+
+  private final boolean statelessPrincipal;
+
+  private final Set<String> adminEmails;
+
+  private final Timer validTimer;
+  private final Timer invalidTimer;
+  private final Timer revokedTimer;
+
+  public JwtFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService, TokenDenyList tokenDenyList,
+      @Value("${app.security.stateless-principal:true}") boolean statelessPrincipal,
+      @Value("${app.security.admin-emails:}") String[] adminEmails,
+      MeterRegistry meterRegistry) {
     this.jwtUtil = jwtUtil;
     this.userDetailsService = userDetailsService;
+    this.tokenDenyList = tokenDenyList;
+    this.statelessPrincipal = statelessPrincipal;
+    this.adminEmails = Set.of(adminEmails);
+    this.validTimer = validationTimer(meterRegistry, "valid");
+    this.invalidTimer = validationTimer(meterRegistry, "invalid");
+    this.revokedTimer = validationTimer(meterRegistry, "revoked");
   }
 
   @Override
@@ -34,21 +67,47 @@ public class JwtFilter extends OncePerRequestFilter {
       FilterChain chain) throws ServletException, IOException {
     String header = request.getHeader("Authorization");
 
-    if (header != null && header.startsWith("Bearer ")) {
+    if (header != null && header.startsWith("Bearer ")
+        && SecurityContextHolder.getContext().getAuthentication() == null) {
       String token = header.substring(7);
-      String email = jwtUtil.getEmailFromToken(token);
-
-      if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(email);
-        if (jwtUtil.isTokenValid(token)) {
-          UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(userDetails, null,
-              userDetails.getAuthorities());
-          authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-          SecurityContextHolder.getContext().setAuthentication(authToken);
-        }
+      long start = System.nanoTime();
+      Optional<JwtClaims> claims = jwtUtil.validateToken(token);
+
+      // The deny list answers from memory unless its Bloom filter flags the jti.
+      boolean valid = claims.isPresent() && claims.get().subject() != null;
+      boolean revoked = valid && tokenDenyList.isRevoked(claims.get());
+      (revoked ? revokedTimer : valid ? validTimer : invalidTimer).record(System.nanoTime() - start,
+          TimeUnit.NANOSECONDS);
+
+      if (valid && !revoked) {
+        UsernamePasswordAuthenticationToken authToken = buildAuthentication(claims.get());
+        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authToken);
+        request.setAttribute(CLAIMS_ATTRIBUTE, claims.get());
       }
     }
 
     chain.doFilter(request, response);
   }
+
+  private static Timer validationTimer(MeterRegistry meterRegistry, String outcome) {
+    return Timer.builder("auth.jwt.validation")
+        .description("Bearer token signature, expiry and revocation check")
+        .tag("outcome", outcome)
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+  }
+
+  private UsernamePasswordAuthenticationToken buildAuthentication(JwtClaims claims) {
+    // Tokens issued before the uid claim existed still fall back to the database lookup.
+    boolean admin = adminEmails.contains(claims.subject());
+    if (statelessPrincipal && claims.userId() != null) {
+      AuthenticatedUser principal = new AuthenticatedUser(claims.userId(), claims.subject());
+      return new UsernamePasswordAuthenticationToken(principal, null, admin ? ADMIN_AUTHORITIES : List.of());
+    }
+
+    UserDetails userDetails = userDetailsService.loadUserByUsername(claims.subject());
+    return new UsernamePasswordAuthenticationToken(userDetails, null,
+        admin ? ADMIN_AUTHORITIES : userDetails.getAuthorities());
+  }
 }
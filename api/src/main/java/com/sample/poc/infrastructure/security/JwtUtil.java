@@ -1,8 +1,10 @@
 package com.sample.poc.infrastructure.security;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Date;
-import java.util.function.Function;
+import java.util.Optional;
+import java.util.UUID;
 
 import javax.crypto.SecretKey;
 
@@ -10,8 +12,11 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 
 @Component
 public class JwtUtil {
@@ -21,65 +26,89 @@ public class JwtUtil {
   @Value("${app.jwt.expiration}")
   private long jwtExpirationMs;
 
-  private SecretKey getSigningKey() {
-    return Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+  private static final String USER_ID_CLAIM = "uid";
+
+  // Both are immutable and thread-safe, so they are built once and shared by all requests.
+  private SecretKey signingKey;
+  private JwtParser jwtParser;
+
+  @PostConstruct
+  void init() {
+    this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+    this.jwtParser = Jwts.parser()
+        .verifyWith(signingKey)
+        .build();
   }
 
   public String generateAccessToken(String email) {
-    return generateToken(email, jwtExpirationMs);
+    return generateToken(email, null, jwtExpirationMs);
   }
 
-  private String generateToken(String email, long expirationTime) {
+  /**
+   * Issues an access token that also carries the user id, so the request
+   * principal can be rebuilt from the token without a database lookup.
+   */
+  public String generateAccessToken(String email, Long userId) {
+    return generateToken(email, userId, jwtExpirationMs);
+  }
+
+  private String generateToken(String email, Long userId, long expirationTime) {
     Date now = new Date();
     Date expiryDate = new Date(now.getTime() + expirationTime);
 
     return Jwts.builder()
+        .id(UUID.randomUUID().toString())
         .subject(email)
+        .claim(USER_ID_CLAIM, userId)
         .issuedAt(now)
         .expiration(expiryDate)
-        .signWith(getSigningKey())
+        .signWith(signingKey)
         .compact();
   }
 
-  public String getEmailFromToken(String token) {
-    return getClaimFromToken(token, Claims::getSubject);
-  }
-
-  public Date getExpirationDateFromToken(String token) {
-    return getClaimFromToken(token, Claims::getExpiration);
+  /**
+   * Verifies the signature and expiry of the token with a single parse.
+   *
+   * @return the verified claims, or empty when the token is malformed, tampered or expired
+   */
+  public Optional<JwtClaims> validateToken(String token) {
+    if (token == null || token.isBlank()) {
+      return Optional.empty();
+    }
+    try {
+      // The parser rejects expired tokens itself, so no second expiry check is needed.
+      Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+      return Optional.of(new JwtClaims(
+          claims.getSubject(),
+          claims.get(USER_ID_CLAIM, Long.class),
+          toInstant(claims.getExpiration()),
+          toInstant(claims.getIssuedAt()),
+          claims.getId()));
+    } catch (JwtException | IllegalArgumentException e) {
+      return Optional.empty();
+    }
   }
 
-  private <T> T getClaimFromToken(String token, Function<Claims, T> claimsResolver) {
-    final Claims claims = getAllClaimsFromToken(token);
-    return claimsResolver.apply(claims);
+  public String getEmailFromToken(String token) {
+    return validateToken(token).map(JwtClaims::subject).orElse(null);
   }
 
-  private Claims getAllClaimsFromToken(String token) {
-    return Jwts.parser()
-        .verifyWith(getSigningKey())
-        .build()
-        .parseSignedClaims(token)
-        .getPayload();
+  public Date getExpirationDateFromToken(String token) {
+    return validateToken(token)
+        .map(JwtClaims::expiresAt)
+        .map(Date::from)
+        .orElse(null);
   }
 
   public Boolean isTokenValid(String token) {
-    try {
-      Jwts.parser()
-          .verifyWith(getSigningKey())
-          .build()
-          .parseSignedClaims(token);
-      return !isTokenExpired(token);
-    } catch (Exception e) {
-      return false;
-    }
-  }
-
-  private Boolean isTokenExpired(String token) {
-    final Date expiration = getExpirationDateFromToken(token);
-    return expiration.before(new Date());
+    return validateToken(token).isPresent();
   }
 
   public long getJwtExpirationMs() {
     return jwtExpirationMs;
   }
+
+  private static Instant toInstant(Date date) {
+    return date != null ? date.toInstant() : null;
+  }
 }
@@ -0,0 +1,43 @@
+package com.sample.poc.infrastructure.security;
+
+import java.util.Set;
+
+import org.springframework.boot.web.server.context.WebServerApplicationContext;
+import org.springframework.boot.web.server.context.WebServerInitializedEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Matches GETs of the scrape and health endpoints that arrive on the separate
+ * {@code management.server.port}, which is only reachable from inside the
+ * network. The same paths on the application port never match, and nothing
+ * matches when actuator shares the application port.
+ */
+@Component
+public class ManagementPortRequestMatcher implements RequestMatcher, ApplicationListener<WebServerInitializedEvent> {
+
+  private static final String MANAGEMENT_NAMESPACE = "management";
+  private static final Set<String> PATHS = Set.of("/actuator/health", "/actuator/prometheus");
+
+  // Resolved once the management server is up (the configured port may be 0).
+  private volatile int managementPort = -1;
+
+  @Override
+  public void onApplicationEvent(WebServerInitializedEvent event) {
+    if (WebServerApplicationContext.hasServerNamespace(event.getApplicationContext(), MANAGEMENT_NAMESPACE)) {
+      managementPort = event.getWebServer().getPort();
+    }
+  }
+
+  @Override
+  public boolean matches(HttpServletRequest request) {
+    return managementPort > 0
+        && request.getLocalPort() == managementPort
+        && HttpMethod.GET.matches(request.getMethod())
+        && PATHS.contains(request.getRequestURI());
+  }
+}
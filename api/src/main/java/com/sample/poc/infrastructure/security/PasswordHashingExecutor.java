@@ -0,0 +1,108 @@
+package com.sample.poc.infrastructure.security;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import com.sample.poc.presentation.exception.ServiceUnavailableException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Fixed pool with a bounded queue that runs every password hash and check.
+ * BCrypt is deliberately CPU-expensive, so a login storm is confined to these
+ * threads instead of every request thread; when the queue is full the caller
+ * gets a {@link ServiceUnavailableException} immediately.
+ */
+@Component
+public class PasswordHashingExecutor {
+
+  private final ThreadPoolExecutor executor;
+  private final long retryAfterSeconds;
+
+  private final MeterRegistry meterRegistry;
+  private final Timer waitTimer;
+  private final Counter rejected;
+
+  public PasswordHashingExecutor(
+      @Value("${app.security.password-hashing.threads:0}") int threads,
+      @Value("${app.security.password-hashing.queue-capacity:100}") int queueCapacity,
+      @Value("${app.security.password-hashing.retry-after:1}") long retryAfterSeconds,
+      MeterRegistry meterRegistry) {
+    // Default to half the cores so task endpoints keep CPU during a spike.
+    int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("password-hash-"),
+        new ThreadPoolExecutor.AbortPolicy());
+    this.retryAfterSeconds = retryAfterSeconds;
+    this.meterRegistry = meterRegistry;
+
+    Gauge.builder("auth.password.queue.depth", executor, e -> e.getQueue().size())
+        .description("Password hashing requests waiting for a worker")
+        .register(meterRegistry);
+    Gauge.builder("auth.password.active", executor, ThreadPoolExecutor::getActiveCount)
+        .description("Password hashing workers busy")
+        .register(meterRegistry);
+    this.waitTimer = Timer.builder("auth.password.wait")
+        .description("Time a password hashing request spent queued")
+        .register(meterRegistry);
+    this.rejected = Counter.builder("auth.password.rejected")
+        .description("Password hashing requests rejected because the queue was full")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Runs {@code work} on the pool and waits for it; {@code operation} tags the
+   * {@code auth.password.hash} latency timer.
+   */
+  public <T> T execute(String operation, Supplier<T> work) {
+    Timer hashTimer = meterRegistry.timer("auth.password.hash", "operation", operation);
+    long submittedAt = System.nanoTime();
+
+    Future<T> future;
+    try {
+      future = executor.submit(() -> {
+        waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+        return hashTimer.record(work);
+      });
+    } catch (RejectedExecutionException e) {
+      rejected.increment();
+      throw new ServiceUnavailableException("Muitas requisições de autenticação, tente novamente", retryAfterSeconds,
+          e);
+    }
+
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new ServiceUnavailableException("Autenticação interrompida", retryAfterSeconds, e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  public int getQueueDepth() {
+    return executor.getQueue().size();
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdown();
+  }
+}
@@ -0,0 +1,132 @@
+package com.sample.poc.infrastructure.security;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.sample.poc.domain.model.RevokedToken;
+import com.sample.poc.domain.repository.RevokedTokenRepository;
+import com.sample.poc.infrastructure.invalidation.InvalidationBus;
+import com.sample.poc.infrastructure.invalidation.InvalidationMessage;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Revoked access tokens, by {@code jti}. The table is the source of truth; an
+ * in-memory {@link BloomFilter} in front of it answers the common "not
+ * revoked" case without a query, and only filter hits are confirmed against
+ * the database. Revocations are announced to the other nodes over the
+ * {@link InvalidationBus}; {@link #sync()} still picks up any that were missed,
+ * so they apply everywhere after at most one sync interval.
+ * Entries are dropped once the token's own expiry has passed.
+ */
+@Component
+public class TokenDenyList {
+
+  private static final ZoneId ZONE = ZoneId.systemDefault();
+
+  private final RevokedTokenRepository revokedTokenRepository;
+  private final InvalidationBus invalidationBus;
+  private final int expectedEntries;
+  private final double falsePositiveProbability;
+
+  private volatile BloomFilter filter;
+  private final AtomicInteger insertions = new AtomicInteger();
+  private volatile LocalDateTime lastSync = LocalDateTime.now();
+
+  public TokenDenyList(RevokedTokenRepository revokedTokenRepository, InvalidationBus invalidationBus,
+      @Value("${app.security.revocation.expected-entries:100000}") int expectedEntries,
+      @Value("${app.security.revocation.false-positive-probability:0.01}") double falsePositiveProbability) {
+    this.revokedTokenRepository = revokedTokenRepository;
+    this.invalidationBus = invalidationBus;
+    this.expectedEntries = expectedEntries;
+    this.falsePositiveProbability = falsePositiveProbability;
+  }
+
+  @PostConstruct
+  void init() {
+    rebuild();
+  }
+
+  public boolean isRevoked(JwtClaims claims) {
+    if (claims.tokenId() == null || !filter.mightContain(claims.tokenId())) {
+      return false;
+    }
+    return revokedTokenRepository.existsByTokenIdAndExpiresAtAfter(claims.tokenId(), LocalDateTime.now());
+  }
+
+  @Transactional
+  public void revoke(String tokenId, Long userId, Instant expiresAt) {
+    if (tokenId == null) {
+      return;
+    }
+    if (!revokedTokenRepository.existsById(tokenId)) {
+      revokedTokenRepository.save(RevokedToken.builder()
+          .tokenId(tokenId)
+          .userId(userId)
+          .expiresAt(LocalDateTime.ofInstant(expiresAt, ZONE))
+          .build());
+    }
+    add(tokenId);
+    invalidationBus.publish(InvalidationMessage.token(tokenId));
+  }
+
+  /**
+   * Applies revocations made on other nodes. The row is already committed
+   * when the notification arrives, so adding the id to the filter is enough.
+   */
+  @EventListener
+  public void onInvalidation(InvalidationMessage message) {
+    switch (message.type()) {
+      case TOKEN -> add(message.key());
+      case ALL -> sync();
+      default -> {
+      }
+    }
+  }
+
+  /**
+   * Adds revocations made since the last sync (here or on another node). The
+   * window overlaps a little, since re-adding an id is harmless.
+   */
+  @Scheduled(fixedDelayString = "${app.security.revocation.sync-interval:30000}")
+  public void sync() {
+    LocalDateTime now = LocalDateTime.now();
+    revokedTokenRepository.findLiveTokenIdsRevokedSince(lastSync.minusSeconds(5), now).forEach(this::add);
+    lastSync = now;
+  }
+
+  /**
+   * Drops expired rows and rebuilds the filter from the live ones; a Bloom
+   * filter can't forget, so this is how expired ids leave it.
+   */
+  @Scheduled(fixedDelayString = "${app.security.revocation.rebuild-interval:3600000}",
+      initialDelayString = "${app.security.revocation.rebuild-interval:3600000}")
+  @Transactional
+  public void rebuild() {
+    LocalDateTime now = LocalDateTime.now();
+    revokedTokenRepository.deleteExpired(now);
+
+    BloomFilter rebuilt = new BloomFilter(expectedEntries, falsePositiveProbability);
+    var live = revokedTokenRepository.findLiveTokenIdsRevokedSince(LocalDateTime.of(1970, 1, 1, 0, 0), now);
+    live.forEach(rebuilt::put);
+    insertions.set(live.size());
+    filter = rebuilt;
+    lastSync = now;
+  }
+
+  private void add(String tokenId) {
+    filter.put(tokenId);
+    // Past the sizing the false-positive rate climbs; rebuild early instead of waiting for the schedule.
+    if (insertions.incrementAndGet() == expectedEntries + 1) {
+      rebuild();
+    }
+  }
+}
@@ -0,0 +1,105 @@
+package com.sample.poc.infrastructure.sse;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * One open event stream with its own bounded buffer. {@link #offer} never
+ * blocks: events are queued and written by a sender thread, one drain at a
+ * time per connection. When a slow client lets the buffer fill up, the queued
+ * events are discarded and replaced by a single {@code resync} event, telling
+ * the client to catch up through {@code GET /api/sync} instead.
+ */
+public class SseConnection {
+
+  public static final String RESYNC_EVENT = "resync";
+
+  private final SseEmitter emitter;
+  private final int capacity;
+  private final Executor executor;
+  private final Runnable onOverflow;
+
+  private final Deque<SseEmitter.SseEventBuilder> buffer = new ArrayDeque<>();
+  private final AtomicBoolean draining = new AtomicBoolean();
+  private final AtomicBoolean closed = new AtomicBoolean();
+
+  public SseConnection(SseEmitter emitter, int capacity, Executor executor, Runnable onOverflow) {
+    this.emitter = emitter;
+    this.capacity = Math.max(1, capacity);
+    this.executor = executor;
+    this.onOverflow = onOverflow;
+  }
+
+  public SseEmitter getEmitter() {
+    return emitter;
+  }
+
+  public boolean isClosed() {
+    return closed.get();
+  }
+
+  public void offer(SseEmitter.SseEventBuilder event) {
+    if (closed.get()) {
+      return;
+    }
+    synchronized (buffer) {
+      if (buffer.size() >= capacity) {
+        buffer.clear();
+        buffer.add(SseEmitter.event().name(RESYNC_EVENT).data(""));
+        onOverflow.run();
+      }
+      buffer.add(event);
+    }
+    scheduleDrain();
+  }
+
+  public void close() {
+    if (closed.compareAndSet(false, true)) {
+      synchronized (buffer) {
+        buffer.clear();
+      }
+      try {
+        emitter.complete();
+      } catch (RuntimeException e) {
+        // Already completed by the container; nothing left to release.
+      }
+    }
+  }
+
+  private void scheduleDrain() {
+    if (draining.compareAndSet(false, true)) {
+      try {
+        executor.execute(this::drain);
+      } catch (RejectedExecutionException e) {
+        draining.set(false);
+        close();
+      }
+    }
+  }
+
+  private void drain() {
+    try {
+      while (!closed.get()) {
+        SseEmitter.SseEventBuilder next;
+        synchronized (buffer) {
+          next = buffer.poll();
+          if (next == null) {
+            draining.set(false);
+            return;
+          }
+        }
+        emitter.send(next);
+      }
+    } catch (IOException | IllegalStateException e) {
+      // Client went away (or the emitter timed out) mid-write.
+      close();
+    }
+    draining.set(false);
+  }
+}
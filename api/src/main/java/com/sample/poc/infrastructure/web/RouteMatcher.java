@@ -0,0 +1,47 @@
+package com.sample.poc.infrastructure.web;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * Matches a request's method and path against configured routes, each a
+ * {@link PathPattern} plus the HTTP methods it applies to (empty means any).
+ * Routes are tried in configuration order and the first match wins.
+ *
+ * @param <R> the configuration type a route is read from
+ */
+public final class RouteMatcher<R> {
+
+  private final List<CompiledRoute<R>> routes;
+
+  public RouteMatcher(List<R> routes, Function<R, List<String>> methods, Function<R, String> pattern) {
+    this.routes = routes.stream()
+        .map(route -> new CompiledRoute<>(route, methods.apply(route),
+            PathPatternParser.defaultInstance.parse(pattern.apply(route))))
+        .toList();
+  }
+
+  public Optional<R> match(String method, String path) {
+    if (routes.isEmpty()) {
+      return Optional.empty();
+    }
+    PathContainer container = PathContainer.parsePath(path);
+    return routes.stream()
+        .filter(route -> route.matches(method, container))
+        .map(CompiledRoute::route)
+        .findFirst();
+  }
+
+  private record CompiledRoute<R>(R route, List<String> methods, PathPattern pattern) {
+
+    boolean matches(String method, PathContainer path) {
+      return (methods.isEmpty() || methods.stream().anyMatch(method::equalsIgnoreCase))
+          && pattern.matches(path);
+    }
+  }
+}
@@ -0,0 +1,41 @@
+package com.sample.poc.presentation.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.sample.poc.application.service.AuthService;
+
+/**
+ * Operator endpoints; restricted to {@code ROLE_ADMIN} by the security config.
+ */
+@RestController
+@RequestMapping("/api/admin")
+public class AdminController {
+
+    @Autowired
+    private AuthService authService;
+
+    /**
+     * Revoke an access token by its id (jti claim).
+     * DELETE /api/admin/tokens/{tokenId}
+     */
+    @DeleteMapping("/tokens/{tokenId}")
+    public ResponseEntity<Void> revokeToken(@PathVariable String tokenId) {
+        authService.revokeToken(tokenId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Revoke every refresh token of a user.
+     * DELETE /api/admin/users/{userId}/tokens
+     */
+    @DeleteMapping("/users/{userId}/tokens")
+    public ResponseEntity<Void> revokeUserTokens(@PathVariable Long userId) {
+        authService.revokeUserTokens(userId);
+        return ResponseEntity.noContent().build();
+    }
+}
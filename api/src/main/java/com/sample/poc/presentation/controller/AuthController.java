@@ -11,9 +11,14 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.sample.poc.application.dto.AuthResponse;
 import com.sample.poc.application.dto.LoginRequest;
+import com.sample.poc.application.dto.LogoutRequest;
+import com.sample.poc.application.dto.RefreshTokenRequest;
 import com.sample.poc.application.dto.RegisterRequest;
 import com.sample.poc.application.service.AuthService;
+import com.sample.poc.infrastructure.security.JwtClaims;
+import com.sample.poc.infrastructure.security.JwtFilter;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
 @RestController
@@ -35,4 +40,22 @@ public class AuthController {
         AuthResponse authResponse = authService.login(loginRequest);
         return ResponseEntity.ok(authResponse);
     }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(@Valid @RequestBody RefreshTokenRequest refreshTokenRequest) {
+        AuthResponse authResponse = authService.refresh(refreshTokenRequest);
+        return ResponseEntity.ok(authResponse);
+    }
+
+    /**
+     * Revokes the bearer token of this request and, optionally, a refresh token.
+     * POST /api/auth/logout
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(HttpServletRequest request,
+            @RequestBody(required = false) LogoutRequest logoutRequest) {
+        JwtClaims claims = (JwtClaims) request.getAttribute(JwtFilter.CLAIMS_ATTRIBUTE);
+        authService.logout(claims, logoutRequest != null ? logoutRequest.getRefreshToken() : null);
+        return ResponseEntity.noContent().build();
+    }
 }
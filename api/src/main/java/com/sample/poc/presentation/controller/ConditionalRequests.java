@@ -0,0 +1,49 @@
+package com.sample.poc.presentation.controller;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import com.sample.poc.application.dto.Versioned;
+import com.sample.poc.domain.repository.ResourceVersion;
+
+/**
+ * Conditional GET support for read endpoints. When the request carries an
+ * If-None-Match, the resource's version is fetched with a cheap aggregate
+ * query and compared first, so an unchanged resource answers 304 without
+ * being loaded or serialized. Otherwise the body is loaded and sent with the
+ * validators derived from the rows just read.
+ * <p>
+ * No Last-Modified is sent, so If-Modified-Since never short-circuits: the
+ * header has one-second resolution and the newest timestamp does not change
+ * when a row is deleted, so it would answer 304 for content that changed.
+ */
+final class ConditionalRequests {
+
+  // Per-user data: no shared caches, and clients revalidate on every use.
+  private static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+  private ConditionalRequests() {
+  }
+
+  static <T> ResponseEntity<T> get(WebRequest request, Supplier<Optional<ResourceVersion>> version,
+      Supplier<Versioned<T>> body) {
+    if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+      Optional<ResourceVersion> current = version.get();
+      if (current.isPresent() && request.checkNotModified(current.get().etag())) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(CACHE_CONTROL).build();
+      }
+    }
+
+    Versioned<T> versioned = body.get();
+    return ResponseEntity.ok()
+        .cacheControl(CACHE_CONTROL)
+        .eTag(versioned.version().etag())
+        .body(versioned.body());
+  }
+}
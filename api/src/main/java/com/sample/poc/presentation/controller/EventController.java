@@ -0,0 +1,30 @@
+package com.sample.poc.presentation.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.sample.poc.application.service.ChangeFeedService;
+
+@RestController
+@RequestMapping("/api/events")
+public class EventController {
+
+    @Autowired
+    private ChangeFeedService changeFeedService;
+
+    /**
+     * Server-Sent Events stream of the user's task and task list changes:
+     * {@code change} events carry a {@link com.sample.poc.application.event.ChangeEvent};
+     * {@code resync} means events were dropped and the client should call
+     * {@code GET /api/sync}.
+     * GET /api/events
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe() {
+        return changeFeedService.subscribe();
+    }
+}
@@ -0,0 +1,35 @@
+package com.sample.poc.presentation.controller;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.sample.poc.application.service.ExportService;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+@RestController
+@RequestMapping("/api/export")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class ExportController {
+
+  @Autowired
+  private ExportService exportService;
+
+  /**
+   * Export every task list and task of the authenticated user as NDJSON.
+   * GET /api/export
+   */
+  @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public void exportAll(HttpServletResponse response) throws IOException {
+    response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+    response.setCharacterEncoding("UTF-8");
+    response.setHeader("Content-Disposition", "attachment; filename=\"tasks-export.ndjson\"");
+    exportService.exportCurrentUser(response.getOutputStream());
+  }
+}
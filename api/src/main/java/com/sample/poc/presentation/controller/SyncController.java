@@ -0,0 +1,32 @@
+package com.sample.poc.presentation.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.sample.poc.application.dto.SyncResponse;
+import com.sample.poc.application.service.SyncService;
+
+@RestController
+@RequestMapping("/api/sync")
+public class SyncController {
+
+    @Autowired
+    private SyncService syncService;
+
+    /**
+     * Task lists, tasks and deletions since the given token; without a token,
+     * a full snapshot to start from. 410 when the token is older than the
+     * tombstone retention.
+     * GET /api/sync?since=...&limit=500
+     */
+    @GetMapping
+    public ResponseEntity<SyncResponse> sync(@RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer limit) {
+        SyncResponse response = syncService.sync(since, limit);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -1,9 +1,11 @@
 package com.sample.poc.presentation.controller;
 
+import java.io.IOException;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -13,13 +15,21 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.sample.poc.application.dto.BatchTaskRequest;
+import com.sample.poc.application.dto.BatchTaskResponse;
 import com.sample.poc.application.dto.CreateTaskRequest;
+import com.sample.poc.application.dto.CursorPage;
+import com.sample.poc.application.dto.ImportResult;
 import com.sample.poc.application.dto.TaskResponse;
 import com.sample.poc.application.dto.UpdateTaskRequest;
+import com.sample.poc.application.service.TaskImportService;
 import com.sample.poc.application.service.TaskService;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
 @RestController
@@ -30,6 +40,9 @@ public class TaskController {
   @Autowired
   private TaskService taskService;
 
+  @Autowired
+  private TaskImportService taskImportService;
+
   @PostMapping
   public ResponseEntity<TaskResponse> createTask(@Valid @RequestBody CreateTaskRequest createTaskRequest) {
     TaskResponse taskResponse = taskService.createTask(createTaskRequest);
@@ -48,10 +61,58 @@ public class TaskController {
     return ResponseEntity.ok(taskResponse);
   }
 
+  /**
+   * All tasks of a list; supports If-None-Match / If-Modified-Since (304 when unchanged).
+   * GET /api/tasks/tasklist/{id}
+   */
   @GetMapping("/tasklist/{id}")
-  public ResponseEntity<List<TaskResponse>> getTaskBytaskListId(@PathVariable Long id) {
-    List<TaskResponse> taskResponse = taskService.findByTaskListId(id);
-    return ResponseEntity.ok(taskResponse);
+  public ResponseEntity<List<TaskResponse>> getTaskBytaskListId(@PathVariable Long id, WebRequest request) {
+    return ConditionalRequests.get(request,
+        () -> taskService.getTasksVersion(id),
+        () -> taskService.findVersionedByTaskListId(id));
+  }
+
+  /**
+   * Keyset-paginated variant, selected when the {@code size} parameter is present.
+   * GET /api/tasks/tasklist/{id}?size=50&cursor=...
+   */
+  @GetMapping(value = "/tasklist/{id}", params = "size")
+  public ResponseEntity<CursorPage<TaskResponse>> getTaskPageByTaskListId(@PathVariable Long id,
+      @RequestParam Integer size, @RequestParam(required = false) String cursor) {
+    CursorPage<TaskResponse> page = taskService.findPageByTaskListId(id, cursor, size);
+    return ResponseEntity.ok(page);
+  }
+
+  /**
+   * Bulk import of tasks into a list, as a JSON array read item by item.
+   * POST /api/tasks/tasklist/{id}/import
+   */
+  @PostMapping(value = "/tasklist/{id}/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<ImportResult> importTasks(@PathVariable Long id, HttpServletRequest request)
+      throws IOException {
+    ImportResult result = taskImportService.importJson(id, request.getInputStream());
+    return ResponseEntity.ok(result);
+  }
+
+  /**
+   * Bulk import of tasks into a list, as newline-delimited JSON.
+   * POST /api/tasks/tasklist/{id}/import
+   */
+  @PostMapping(value = "/tasklist/{id}/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<ImportResult> importTasksNdjson(@PathVariable Long id, HttpServletRequest request)
+      throws IOException {
+    ImportResult result = taskImportService.importNdjson(id, request.getInputStream());
+    return ResponseEntity.ok(result);
+  }
+
+  /**
+   * Applies several update/delete operations in one request and transaction.
+   * POST /api/tasks/batch
+   */
+  @PostMapping("/batch")
+  public ResponseEntity<BatchTaskResponse> applyBatch(@Valid @RequestBody BatchTaskRequest batchTaskRequest) {
+    BatchTaskResponse response = taskService.applyBatch(batchTaskRequest);
+    return ResponseEntity.ok(response);
   }
 
   @PutMapping("/{id}")
@@ -1,6 +1,7 @@
 package com.sample.poc.presentation.controller;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -12,7 +13,9 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.sample.poc.application.dto.CreateTaskListRequest;
 import com.sample.poc.application.dto.TaskListResponse;
@@ -41,21 +44,25 @@ public class TaskListController {
     /**
      * Get all task lists for the authenticated user.
      * GET /api/tasklists
+     * Supports If-None-Match / If-Modified-Since (304 when unchanged).
      */
     @GetMapping
-    public ResponseEntity<List<TaskListResponse>> getUserTaskLists() {
-        List<TaskListResponse> response = taskListService.getUserTaskLists();
-        return ResponseEntity.ok(response);
+    public ResponseEntity<List<TaskListResponse>> getUserTaskLists(WebRequest request) {
+        return ConditionalRequests.get(request,
+                () -> Optional.of(taskListService.getUserTaskListsVersion()),
+                taskListService::getVersionedUserTaskLists);
     }
 
     /**
      * Get a specific task list by ID.
      * GET /api/tasklists/{id}
+     * Supports If-None-Match / If-Modified-Since (304 when unchanged).
      */
     @GetMapping("/{id}")
-    public ResponseEntity<TaskListResponse> getTaskListById(@PathVariable Long id) {
-        TaskListResponse response = taskListService.getTaskListById(id);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<TaskListResponse> getTaskListById(@PathVariable Long id, WebRequest request) {
+        return ConditionalRequests.get(request,
+                () -> taskListService.getTaskListVersion(id),
+                () -> taskListService.getVersionedTaskListById(id));
     }
 
     /**
@@ -73,9 +80,15 @@ public class TaskListController {
     /**
      * Delete a task list and all its tasks.
      * DELETE /api/tasklists/{id}
+     * With {@code ?async=true} the deletion runs in the background and 202 is returned.
      */
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteTaskList(@PathVariable Long id) {
+    public ResponseEntity<Void> deleteTaskList(@PathVariable Long id,
+            @RequestParam(defaultValue = "false") boolean async) {
+        if (async) {
+            taskListService.deleteTaskListAsync(id);
+            return ResponseEntity.accepted().build();
+        }
         taskListService.deleteTaskList(id);
         return ResponseEntity.noContent().build();
     }
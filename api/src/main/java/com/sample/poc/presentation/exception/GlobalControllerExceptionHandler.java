@@ -4,9 +4,13 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -59,6 +63,21 @@ public class GlobalControllerExceptionHandler {
     return new ResponseEntity<>(errorResponse, HttpStatus.UNAUTHORIZED);
   }
 
+  @ExceptionHandler(SyncTokenExpiredException.class)
+  public ResponseEntity<ErrorResponse> handleSyncTokenExpiredException(
+      SyncTokenExpiredException ex, WebRequest request) {
+
+    ErrorResponse errorResponse = ErrorResponse.builder()
+      .timestamp(LocalDateTime.now())
+      .status(HttpStatus.GONE.value())
+      .error("Expirado")
+      .message(ex.getMessage())
+      .path(request.getDescription(false).replace("uri=", ""))
+      .build();
+
+    return new ResponseEntity<>(errorResponse, HttpStatus.GONE);
+  }
+
   @ExceptionHandler(MethodArgumentNotValidException.class)
   public ResponseEntity<ErrorResponse> handleValidationException(
       MethodArgumentNotValidException ex, WebRequest request) {
@@ -82,6 +101,65 @@ public class GlobalControllerExceptionHandler {
     return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
   }
 
+  @ExceptionHandler(ServiceUnavailableException.class)
+  public ResponseEntity<ErrorResponse> handleServiceUnavailableException(
+      ServiceUnavailableException ex, WebRequest request) {
+
+    ErrorResponse errorResponse = ErrorResponse.builder()
+      .timestamp(LocalDateTime.now())
+      .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+      .error("Serviço Indisponível")
+      .message(ex.getMessage())
+      .path(request.getDescription(false).replace("uri=", ""))
+      .build();
+
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+      .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+      .body(errorResponse);
+  }
+
+  /**
+   * No database connection within the acquire timeout: the node is saturated,
+   * so ask the client to retry instead of reporting a bad request.
+   */
+  @ExceptionHandler({ CannotCreateTransactionException.class, DataAccessResourceFailureException.class })
+  public ResponseEntity<ErrorResponse> handleDatabaseUnavailableException(
+      RuntimeException ex, WebRequest request) {
+
+    ErrorResponse errorResponse = ErrorResponse.builder()
+      .timestamp(LocalDateTime.now())
+      .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+      .error("Serviço Indisponível")
+      .message("Serviço temporariamente sobrecarregado, tente novamente")
+      .path(request.getDescription(false).replace("uri=", ""))
+      .build();
+
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+      .header(HttpHeaders.RETRY_AFTER, "1")
+      .body(errorResponse);
+  }
+
+  /**
+   * Background executor queue full (e.g. list purges): the work was not
+   * accepted, so the client should retry later.
+   */
+  @ExceptionHandler(TaskRejectedException.class)
+  public ResponseEntity<ErrorResponse> handleTaskRejectedException(
+      TaskRejectedException ex, WebRequest request) {
+
+    ErrorResponse errorResponse = ErrorResponse.builder()
+      .timestamp(LocalDateTime.now())
+      .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+      .error("Serviço Indisponível")
+      .message("Muitas operações em andamento, tente novamente")
+      .path(request.getDescription(false).replace("uri=", ""))
+      .build();
+
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+      .header(HttpHeaders.RETRY_AFTER, "5")
+      .body(errorResponse);
+  }
+
   @ExceptionHandler(RuntimeException.class)
   public ResponseEntity<ErrorResponse> handleRuntimeException(
       RuntimeException ex, WebRequest request) {
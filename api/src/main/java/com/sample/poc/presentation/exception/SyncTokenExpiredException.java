@@ -0,0 +1,11 @@
+package com.sample.poc.presentation.exception;
+
+/**
+ * The sync token predates the tombstone retention, so deletions since then
+ * may be lost; the client has to start over with a full sync.
+ */
+public class SyncTokenExpiredException extends RuntimeException {
+    public SyncTokenExpiredException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,136 @@
+package com.sample.poc.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.junit.jupiter.api.Test;
+
+import com.sample.poc.domain.model.User;
+import com.sample.poc.infrastructure.cache.CachedUser;
+import com.sample.poc.infrastructure.cache.UserCache;
+import com.sample.poc.infrastructure.cache.UserCacheInvalidationListener;
+import com.sample.poc.infrastructure.invalidation.InvalidationBus;
+import com.sample.poc.infrastructure.invalidation.InvalidationMessage;
+
+import jakarta.persistence.EntityManagerFactory;
+
+class UserCacheTest {
+
+    @Test
+    void testGetAfterPut_Hit() {
+        UserCache cache = new UserCache(10, 60000);
+        cache.put(user(1L, "a@example.com"));
+
+        CachedUser cached = cache.get("a@example.com").orElseThrow();
+
+        assertEquals(1L, cached.id());
+        assertEquals("hash", cached.password());
+        assertEquals(1, cache.getStats().hits());
+    }
+
+    @Test
+    void testGetUnknown_Miss() {
+        UserCache cache = new UserCache(10, 60000);
+
+        assertFalse(cache.get("a@example.com").isPresent());
+        assertEquals(1, cache.getStats().misses());
+    }
+
+    @Test
+    void testExpiredEntry_Evicted() throws InterruptedException {
+        UserCache cache = new UserCache(10, 1);
+        cache.put(user(1L, "a@example.com"));
+        Thread.sleep(5);
+
+        assertFalse(cache.get("a@example.com").isPresent());
+        assertEquals(1, cache.getStats().evictions());
+        assertEquals(0, cache.getStats().size());
+    }
+
+    @Test
+    void testSizeBound_Enforced() {
+        UserCache cache = new UserCache(2, 60000);
+        cache.put(user(1L, "a@example.com"));
+        cache.put(user(2L, "b@example.com"));
+        cache.put(user(3L, "c@example.com"));
+
+        assertEquals(2, cache.getStats().size());
+        assertEquals(1, cache.getStats().evictions());
+        assertTrue(cache.get("c@example.com").isPresent());
+    }
+
+    @Test
+    void testEvict_RemovesEntry() {
+        UserCache cache = new UserCache(10, 60000);
+        cache.put(user(1L, "a@example.com"));
+
+        cache.evict("a@example.com");
+
+        assertFalse(cache.get("a@example.com").isPresent());
+    }
+
+    @Test
+    void testRemoteInvalidation_EvictsOrClears() {
+        UserCache cache = new UserCache(10, 60000);
+        cache.put(user(1L, "a@example.com"));
+        cache.put(user(2L, "b@example.com"));
+
+        cache.onInvalidation(InvalidationMessage.user("a@example.com"));
+        assertFalse(cache.get("a@example.com").isPresent());
+        assertTrue(cache.get("b@example.com").isPresent());
+
+        cache.onInvalidation(InvalidationMessage.all("other-node"));
+        assertEquals(0, cache.getStats().size());
+    }
+
+    @Test
+    void testEmailChanged_EvictsOldAndNewKeys() {
+        UserCache cache = new UserCache(10, 60000);
+        InvalidationBus bus = mock(InvalidationBus.class);
+        UserCacheInvalidationListener listener = new UserCacheInvalidationListener(cache, bus, entityManagerFactory());
+        EntityPersister persister = mock(EntityPersister.class);
+        when(persister.getPropertyNames()).thenReturn(new String[] {"email", "name"});
+
+        User user = user(1L, "old@example.com");
+        cache.put(user);
+        user.setEmail("new@example.com");
+        cache.put(user);
+        listener.onPostUpdate(new PostUpdateEvent(user, 1L,
+                new Object[] {"new@example.com", "Test User"},
+                new Object[] {"old@example.com", "Test User"},
+                new int[] {0}, persister, null));
+
+        assertFalse(cache.get("old@example.com").isPresent());
+        assertFalse(cache.get("new@example.com").isPresent());
+        verify(bus).publish(InvalidationMessage.user("old@example.com"));
+        verify(bus).publish(InvalidationMessage.user("new@example.com"));
+    }
+
+    private static EntityManagerFactory entityManagerFactory() {
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        SessionFactoryImplementor sessionFactory = mock(SessionFactoryImplementor.class);
+        ServiceRegistryImplementor serviceRegistry = mock(ServiceRegistryImplementor.class);
+        when(entityManagerFactory.unwrap(SessionFactoryImplementor.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getServiceRegistry()).thenReturn(serviceRegistry);
+        when(serviceRegistry.requireService(EventListenerRegistry.class)).thenReturn(mock(EventListenerRegistry.class));
+        return entityManagerFactory;
+    }
+
+    private static User user(Long id, String email) {
+        return User.builder()
+                .id(id)
+                .name("Test User")
+                .email(email)
+                .password("hash")
+                .build();
+    }
+}
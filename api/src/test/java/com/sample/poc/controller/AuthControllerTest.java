@@ -4,6 +4,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -20,9 +21,12 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sample.poc.application.dto.AuthResponse;
 import com.sample.poc.application.dto.LoginRequest;
+import com.sample.poc.application.dto.RefreshTokenRequest;
 import com.sample.poc.application.dto.RegisterRequest;
 import com.sample.poc.application.service.AuthService;
 import com.sample.poc.presentation.controller.AuthController;
+import com.sample.poc.presentation.exception.GlobalControllerExceptionHandler;
+import com.sample.poc.presentation.exception.ServiceUnavailableException;
 
 @ExtendWith(MockitoExtension.class)
 class AuthControllerTest {
@@ -44,7 +48,9 @@ class AuthControllerTest {
     @BeforeEach
     void setUp() {
         objectMapper = new ObjectMapper();
-        mockMvc = MockMvcBuilders.standaloneSetup(authController).build();
+        mockMvc = MockMvcBuilders.standaloneSetup(authController)
+                .setControllerAdvice(new GlobalControllerExceptionHandler())
+                .build();
 
         registerRequest = RegisterRequest.builder()
                 .name("Test User")
@@ -85,4 +91,27 @@ class AuthControllerTest {
                 .andExpect(jsonPath("$.accessToken").value("accessToken"))
         ;
     }
+
+    @Test
+    void testRefresh_Success() throws Exception {
+        when(authService.refresh(any(RefreshTokenRequest.class))).thenReturn(authResponse);
+
+        mockMvc.perform(post("/api/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RefreshTokenRequest("refreshToken"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accessToken").value("accessToken"));
+    }
+
+    @Test
+    void testLogin_HashingPoolSaturated_ServiceUnavailable() throws Exception {
+        when(authService.login(any(LoginRequest.class)))
+                .thenThrow(new ServiceUnavailableException("Muitas requisições de autenticação, tente novamente", 1));
+
+        mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+    }
 }
@@ -12,6 +12,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -25,6 +26,7 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sample.poc.application.dto.CreateTaskRequest;
+import com.sample.poc.application.dto.CursorPage;
 import com.sample.poc.application.dto.TaskResponse;
 import com.sample.poc.application.dto.UpdateTaskRequest;
 import com.sample.poc.application.service.TaskService;
@@ -94,6 +96,24 @@ class TaskControllerTest {
         .andExpect(jsonPath("$.title").value("Test Task"));
   }
 
+  @Test
+  void testGetTaskPage_Success() throws Exception {
+    CursorPage<TaskResponse> page = CursorPage.<TaskResponse>builder()
+        .items(List.of(taskResponse))
+        .nextCursor("next")
+        .hasMore(true)
+        .build();
+    when(taskService.findPageByTaskListId(1L, "abc", 20)).thenReturn(page);
+
+    mockMvc.perform(get("/api/tasks/tasklist/1")
+        .param("size", "20")
+        .param("cursor", "abc"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.items[0].title").value("Test Task"))
+        .andExpect(jsonPath("$.nextCursor").value("next"))
+        .andExpect(jsonPath("$.hasMore").value(true));
+  }
+
   @Test
   void testUpdateTask_Success() throws Exception {
     when(taskService.updateTask(eq(1L), any(UpdateTaskRequest.class))).thenReturn(taskResponse);
@@ -3,6 +3,8 @@ package com.sample.poc.controller;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -10,11 +12,14 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,6 +27,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
@@ -29,12 +35,17 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import com.sample.poc.application.dto.CreateTaskListRequest;
 import com.sample.poc.application.dto.TaskListResponse;
 import com.sample.poc.application.dto.UpdateTaskListRequest;
+import com.sample.poc.application.dto.Versioned;
 import com.sample.poc.application.service.TaskListService;
+import com.sample.poc.domain.repository.ResourceVersion;
 import com.sample.poc.presentation.controller.TaskListController;
+import com.sample.poc.presentation.exception.GlobalControllerExceptionHandler;
 
 @ExtendWith(MockitoExtension.class)
 public class TaskListControllerTest {
 
+        private static final ResourceVersion VERSION = ResourceVersion.of(3, LocalDateTime.of(2024, 5, 1, 10, 0));
+
         @Mock
         private TaskListService taskListService;
 
@@ -45,7 +56,9 @@ public class TaskListControllerTest {
 
         @BeforeEach
         void setUp() {
-                mockMvc = MockMvcBuilders.standaloneSetup(taskListController).build();
+                mockMvc = MockMvcBuilders.standaloneSetup(taskListController)
+                                .setControllerAdvice(new GlobalControllerExceptionHandler())
+                                .build();
         }
 
         @Test
@@ -79,14 +92,16 @@ public class TaskListControllerTest {
                                 .updatedAt(LocalDateTime.now())
                                 .build();
 
-                when(taskListService.getUserTaskLists()).thenReturn(List.of(response));
+                when(taskListService.getVersionedUserTaskLists())
+                                .thenReturn(new Versioned<>(List.of(response), VERSION));
 
                 mockMvc.perform(get("/api/tasklists")
                                 .contentType(MediaType.APPLICATION_JSON))
                                 .andExpect(status().isOk())
+                                .andExpect(header().string("ETag", VERSION.etag()))
                                 .andExpect(jsonPath("$[0].name").value("Work"));
 
-                verify(taskListService, times(1)).getUserTaskLists();
+                verify(taskListService, times(1)).getVersionedUserTaskLists();
         }
 
         @Test
@@ -99,14 +114,41 @@ public class TaskListControllerTest {
                                 .updatedAt(LocalDateTime.now())
                                 .build();
 
-                when(taskListService.getTaskListById(1L)).thenReturn(response);
+                when(taskListService.getVersionedTaskListById(1L)).thenReturn(new Versioned<>(response, VERSION));
 
                 mockMvc.perform(get("/api/tasklists/1")
                                 .contentType(MediaType.APPLICATION_JSON))
                                 .andExpect(status().isOk())
+                                .andExpect(header().doesNotExist("Last-Modified"))
                                 .andExpect(jsonPath("$.name").value("Work"));
 
-                verify(taskListService, times(1)).getTaskListById(1L);
+                verify(taskListService, times(1)).getVersionedTaskListById(1L);
+        }
+
+        @Test
+        void testGetTaskListById_NotModified() throws Exception {
+                when(taskListService.getTaskListVersion(1L)).thenReturn(Optional.of(VERSION));
+
+                mockMvc.perform(get("/api/tasklists/1")
+                                .header("If-None-Match", VERSION.etag()))
+                                .andExpect(status().isNotModified())
+                                .andExpect(content().string(""));
+
+                verify(taskListService, never()).getVersionedTaskListById(1L);
+        }
+
+        @Test
+        void testGetTaskListById_StaleETag_ReturnsBody() throws Exception {
+                TaskListResponse response = TaskListResponse.builder().id(1L).name("Work").taskCount(1).build();
+                ResourceVersion changed = ResourceVersion.of(1, VERSION.lastModified().plusSeconds(1));
+                when(taskListService.getTaskListVersion(1L)).thenReturn(Optional.of(changed));
+                when(taskListService.getVersionedTaskListById(1L)).thenReturn(new Versioned<>(response, changed));
+
+                mockMvc.perform(get("/api/tasklists/1")
+                                .header("If-None-Match", VERSION.etag()))
+                                .andExpect(status().isOk())
+                                .andExpect(header().stringValues("ETag", changed.etag()))
+                                .andExpect(jsonPath("$.taskCount").value(1));
         }
 
         @Test
@@ -141,4 +183,27 @@ public class TaskListControllerTest {
                 verify(taskListService, times(1)).deleteTaskList(1L);
         }
 
+        @Test
+        void testDeleteTaskListAsync_Accepted() throws Exception {
+                doNothing().when(taskListService).deleteTaskListAsync(1L);
+
+                mockMvc.perform(delete("/api/tasklists/1?async=true")
+                                .contentType(MediaType.APPLICATION_JSON))
+                                .andExpect(status().isAccepted());
+
+                verify(taskListService, times(1)).deleteTaskListAsync(1L);
+                verify(taskListService, times(0)).deleteTaskList(1L);
+        }
+
+        @Test
+        void testDeleteTaskListAsync_PurgeQueueFull_ServiceUnavailable() throws Exception {
+                doThrow(new TaskRejectedException("fila cheia")).when(taskListService).deleteTaskListAsync(1L);
+
+                mockMvc.perform(delete("/api/tasklists/1?async=true")
+                                .contentType(MediaType.APPLICATION_JSON))
+                                .andExpect(status().isServiceUnavailable())
+                                .andExpect(header().exists("Retry-After"))
+                                .andExpect(jsonPath("$.status").value(503));
+        }
+
 }
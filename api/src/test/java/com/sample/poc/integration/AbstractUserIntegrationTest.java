@@ -0,0 +1,104 @@
+package com.sample.poc.integration;
+
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.DefaultMockMvcBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.sample.poc.domain.model.Task;
+import com.sample.poc.domain.model.TaskList;
+import com.sample.poc.domain.model.User;
+import com.sample.poc.domain.repository.TaskListRepository;
+import com.sample.poc.domain.repository.TaskRepository;
+import com.sample.poc.domain.repository.UserRepository;
+import com.sample.poc.infrastructure.security.AuthenticatedUser;
+import com.sample.poc.infrastructure.security.JwtUtil;
+
+/**
+ * Common fixture for integration tests acting as one user: MockMvc with the
+ * security chain, a fresh user (unique email, so tests sharing the context
+ * never collide), one list holding {@link #taskCount()} tasks and an access
+ * token for that user.
+ */
+abstract class AbstractUserIntegrationTest {
+
+    @Autowired
+    protected WebApplicationContext context;
+
+    @Autowired
+    protected UserRepository userRepository;
+
+    @Autowired
+    protected TaskListRepository taskListRepository;
+
+    @Autowired
+    protected TaskRepository taskRepository;
+
+    @Autowired
+    protected JwtUtil jwtUtil;
+
+    protected MockMvc mockMvc;
+    protected User user;
+    protected TaskList taskList;
+    protected List<Task> tasks;
+    protected String token;
+
+    @BeforeEach
+    void setUpUser() {
+        mockMvc = configure(MockMvcBuilders.webAppContextSetup(context)).apply(springSecurity()).build();
+
+        user = saveUser();
+        taskList = taskListRepository.save(TaskList.builder().name("List").user(user).build());
+        tasks = new ArrayList<>();
+        for (int i = 0; i < taskCount(); i++) {
+            tasks.add(taskRepository.save(Task.builder().title("Task " + i).taskList(taskList).build()));
+        }
+        token = jwtUtil.generateAccessToken(user.getEmail(), user.getId());
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    /** Tasks created in {@link #taskList}; none by default. */
+    protected int taskCount() {
+        return 0;
+    }
+
+    /** Extra MockMvc setup, e.g. filters the test needs in front of the security chain. */
+    protected DefaultMockMvcBuilder configure(DefaultMockMvcBuilder builder) {
+        return builder;
+    }
+
+    protected User saveUser() {
+        return userRepository.save(User.builder()
+                .name("Test User")
+                .email("it-" + UUID.randomUUID() + "@example.com")
+                .password("hash")
+                .build());
+    }
+
+    /** Authenticates the current thread as {@link #user}, for calling services directly. */
+    protected void authenticate() {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new AuthenticatedUser(user.getId(), user.getEmail()), null, List.of()));
+    }
+
+    protected ResultActions perform(MockHttpServletRequestBuilder request) throws Exception {
+        return mockMvc.perform(request.header("Authorization", "Bearer " + token));
+    }
+}
@@ -0,0 +1,97 @@
+package com.sample.poc.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.jayway.jsonpath.JsonPath;
+import com.sample.poc.domain.repository.RefreshTokenRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest
+class AuthRefreshIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private MockMvc mockMvc;
+    private String refreshToken;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+
+        String email = "refresh-" + UUID.randomUUID() + "@example.com";
+        mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Refresh\",\"email\":\"" + email + "\",\"password\":\"password123\"}"))
+                .andExpect(status().isCreated());
+        String login = mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"" + email + "\",\"password\":\"password123\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        refreshToken = JsonPath.read(login, "$.refreshToken");
+    }
+
+    @Test
+    void testRefresh_RotatesWithoutHashing() throws Exception {
+        long hashesBefore = meterRegistry.get("auth.password.hash").tag("operation", "matches").timer().count();
+
+        String body = refresh(refreshToken).andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+        String accessToken = JsonPath.read(body, "$.accessToken");
+        String rotated = JsonPath.read(body, "$.refreshToken");
+
+        assertNotEquals(refreshToken, rotated);
+        assertEquals(hashesBefore,
+                meterRegistry.get("auth.password.hash").tag("operation", "matches").timer().count());
+        mockMvc.perform(get("/api/tasklists").header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testRefresh_ReuseRevokesFamily() throws Exception {
+        String body = refresh(refreshToken).andReturn().getResponse().getContentAsString();
+        String rotated = JsonPath.read(body, "$.refreshToken");
+
+        refresh(refreshToken).andExpect(status().isUnauthorized());
+        refresh(rotated).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void testRefresh_UnknownToken() throws Exception {
+        long tokens = refreshTokenRepository.count();
+
+        refresh("not-a-token").andExpect(status().isUnauthorized());
+
+        assertEquals(tokens, refreshTokenRepository.count());
+    }
+
+    private ResultActions refresh(String token) throws Exception {
+        return mockMvc.perform(post("/api/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"refreshToken\":\"" + token + "\"}"));
+    }
+}
@@ -0,0 +1,97 @@
+package com.sample.poc.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.sample.poc.application.service.ChangeFeedService;
+import com.sample.poc.domain.model.Task;
+import com.sample.poc.domain.model.User;
+
+@SpringBootTest
+class ChangeFeedIntegrationTest extends AbstractUserIntegrationTest {
+
+    @Autowired
+    private ChangeFeedService changeFeedService;
+
+    private Task task;
+    private String otherToken;
+
+    @BeforeEach
+    void setUp() {
+        task = tasks.get(0);
+
+        User other = saveUser();
+        otherToken = jwtUtil.generateAccessToken(other.getEmail(), other.getId());
+    }
+
+    @Override
+    protected int taskCount() {
+        return 1;
+    }
+
+    @Test
+    void testCommittedChange_PushedToOwnerOnly() throws Exception {
+        MockHttpServletResponse feed = subscribe(token);
+        MockHttpServletResponse otherFeed = subscribe(otherToken);
+
+        perform(put("/api/tasks/" + task.getId() + "/true"))
+                .andExpect(status().isOk());
+
+        // The event is written in parts; wait for the whole JSON payload.
+        String events = awaitContent(feed, "\"ids\":[" + task.getId() + "]");
+        assertTrue(events.startsWith("event:ready"));
+        assertTrue(events.contains("event:change"));
+        assertTrue(events.contains("\"entity\":\"TASK\""));
+        assertTrue(events.contains("\"action\":\"UPDATED\""));
+        assertFalse(otherFeed.getContentAsString().contains("event:change"));
+    }
+
+    @Test
+    void testSubscribe_WithoutToken_Forbidden() throws Exception {
+        mockMvc.perform(get("/api/events").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void testConnectionLimit_ClosesOldest() throws Exception {
+        int before = changeFeedService.getOpenConnections();
+        for (int i = 0; i < 6; i++) {
+            subscribe(token);
+        }
+
+        assertEquals(before + 5, changeFeedService.getOpenConnections());
+    }
+
+    private MockHttpServletResponse subscribe(String accessToken) throws Exception {
+        return mockMvc.perform(get("/api/events")
+                .header("Authorization", "Bearer " + accessToken)
+                .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn()
+                .getResponse();
+    }
+
+    private static String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        String content = response.getContentAsString();
+        while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            content = response.getContentAsString();
+        }
+        assertTrue(content.contains(expected), content);
+        return content;
+    }
+
+}
@@ -0,0 +1,165 @@
+package com.sample.poc.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+
+import com.sample.poc.domain.model.User;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * ETag on the read endpoints: an unchanged resource answers
+ * 304 after a single version query, and any write changes the validator.
+ */
+@SpringBootTest
+class ConditionalGetIntegrationTest extends AbstractUserIntegrationTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Override
+    protected int taskCount() {
+        return 3;
+    }
+
+    @Test
+    void testUnchanged_NotModifiedWithSingleStatement() throws Exception {
+        for (String url : urls()) {
+            String etag = etag(url);
+
+            statistics.clear();
+            perform(get(url).header("If-None-Match", etag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().string(""));
+
+            assertEquals(1, statistics.getPrepareStatementCount(), url);
+            assertEquals(0, statistics.getEntityLoadCount(), url);
+        }
+    }
+
+    @Test
+    void testTaskDeleted_IfModifiedSinceOnly_FullResponse() throws Exception {
+        String url = "/api/tasks/tasklist/" + taskList.getId();
+        perform(get(url)).andExpect(status().isOk()).andExpect(header().doesNotExist("Last-Modified"));
+
+        perform(delete("/api/tasks/" + tasks.get(0).getId())).andExpect(status().isNoContent());
+
+        // Deleting a row leaves max(updatedAt) untouched; IMS alone must not produce a stale 304.
+        perform(get(url).header("If-Modified-Since", DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(tasks.size() - 1));
+    }
+
+    @Test
+    void testTaskUpdated_ValidatorsChange() throws Exception {
+        List<String> before = etags();
+
+        perform(put("/api/tasks/" + tasks.get(0).getId() + "/true")).andExpect(status().isOk());
+
+        List<String> after = etags();
+        assertNotEquals(before.get(0), after.get(0));
+        assertNotEquals(before.get(2), after.get(2));
+        perform(get(urls().get(2)).header("If-None-Match", before.get(2))).andExpect(status().isOk());
+    }
+
+    @Test
+    void testTaskDeleted_ValidatorsChange() throws Exception {
+        List<String> before = etags();
+
+        perform(delete("/api/tasks/" + tasks.get(0).getId())).andExpect(status().isNoContent());
+
+        List<String> after = etags();
+        for (int i = 0; i < before.size(); i++) {
+            assertNotEquals(before.get(i), after.get(i), urls().get(i));
+        }
+    }
+
+    @Test
+    void testListRenamed_ValidatorChanges() throws Exception {
+        String url = "/api/tasklists/" + taskList.getId();
+        String before = etag(url);
+
+        perform(put(url).contentType(MediaType.APPLICATION_JSON).content("{\"name\":\"Renamed\"}"))
+                .andExpect(status().isOk());
+
+        perform(get(url).header("If-None-Match", before)).andExpect(status().isOk());
+    }
+
+    @Test
+    void testOtherUsersList_NoShortcut() throws Exception {
+        User other = saveUser();
+        String otherToken = jwtUtil.generateAccessToken(other.getEmail(), other.getId());
+        String etag = etag("/api/tasklists/" + taskList.getId());
+
+        mockMvc.perform(get("/api/tasklists/" + taskList.getId())
+                .header("Authorization", "Bearer " + otherToken)
+                .header("If-None-Match", etag))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testOtherUsersTasks_NotFound() throws Exception {
+        User other = saveUser();
+        String otherToken = jwtUtil.generateAccessToken(other.getEmail(), other.getId());
+        String url = "/api/tasks/tasklist/" + taskList.getId();
+        String etag = etag(url);
+
+        for (String ifNoneMatch : new String[] {null, etag, "\"stale\""}) {
+            var request = get(url).header("Authorization", "Bearer " + otherToken);
+            if (ifNoneMatch != null) {
+                request.header("If-None-Match", ifNoneMatch);
+            }
+            mockMvc.perform(request)
+                    .andExpect(status().isNotFound())
+                    .andExpect(header().doesNotExist("ETag"));
+        }
+    }
+
+    private List<String> urls() {
+        return List.of("/api/tasklists", "/api/tasklists/" + taskList.getId(),
+                "/api/tasks/tasklist/" + taskList.getId());
+    }
+
+    private List<String> etags() throws Exception {
+        List<String> etags = new ArrayList<>();
+        for (String url : urls()) {
+            etags.add(etag(url));
+        }
+        return etags;
+    }
+
+    private String etag(String url) throws Exception {
+        String etag = perform(get(url)).andExpect(status().isOk()).andReturn().getResponse().getHeader("ETag");
+        assertNotNull(etag, url);
+        return etag;
+    }
+
+}
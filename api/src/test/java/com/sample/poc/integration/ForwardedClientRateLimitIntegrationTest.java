@@ -0,0 +1,55 @@
+package com.sample.poc.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+/**
+ * Runs over real HTTP: X-Forwarded-For is applied by Tomcat's RemoteIpValve,
+ * which MockMvc bypasses. The test client connects from loopback, a trusted
+ * proxy in {@code server.tomcat.remoteip.internal-proxies}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "app.rate-limit.routes[0].name=auth",
+        "app.rate-limit.routes[0].pattern=/api/auth/**",
+        "app.rate-limit.routes[0].key=ip",
+        "app.rate-limit.routes[0].capacity=2",
+        "app.rate-limit.routes[0].period=1m"
+})
+class ForwardedClientRateLimitIntegrationTest {
+
+    private static final String BODY = "{\"email\":\"nobody@example.com\",\"password\":\"wrong-password\"}";
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void testAuthRoutes_LimitedPerForwardedClient() throws Exception {
+        assertEquals(400, login("203.0.113.1"));
+        assertEquals(400, login("203.0.113.1"));
+        assertEquals(429, login("203.0.113.1"));
+
+        // Same balancer, different client: its own bucket.
+        assertEquals(400, login("203.0.113.2"));
+        // A forged first hop doesn't help: the valve keys on the address the balancer appended.
+        assertEquals(429, login("198.51.100.7, 203.0.113.1"));
+    }
+
+    private int login(String forwardedFor) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .header("X-Forwarded-For", forwardedFor)
+                .POST(HttpRequest.BodyPublishers.ofString(BODY))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
@@ -0,0 +1,99 @@
+package com.sample.poc.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Runs over real HTTP: the request timers and the statement counter are
+ * servlet filters, which MockMvc doesn't apply. Actuator is on its own
+ * (random) management port, as in production.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "management.server.port=0")
+class MetricsIntegrationTest extends AbstractUserIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void testRequest_RecordsStatementsPerRoute() throws Exception {
+        assertEquals(200, get("/api/api/tasklists/" + taskList.getId(), token).statusCode());
+
+        DistributionSummary statements = meterRegistry.get("http.server.requests.statements")
+                .tag("uri", "/api/tasklists/{id}")
+                .tag("method", "GET")
+                .summary();
+        assertTrue(statements.count() >= 1);
+        assertTrue(statements.max() >= 1);
+        Timer databaseTime = meterRegistry.get("http.server.requests.db")
+                .tag("uri", "/api/tasklists/{id}")
+                .timer();
+        assertTrue(databaseTime.totalTime(TimeUnit.NANOSECONDS) > 0);
+        assertTrue(meterRegistry.get("auth.jwt.validation").tag("outcome", "valid").timer().count() >= 1);
+    }
+
+    @Test
+    void testPrometheus_ScrapedOnManagementPort() throws Exception {
+        assertEquals(200, get("/api/api/tasklists", token).statusCode());
+
+        HttpResponse<String> scrape = get(managementPort, "/actuator/prometheus", null);
+
+        assertEquals(200, scrape.statusCode());
+        assertTrue(scrape.body().contains("http_server_requests_seconds_bucket"));
+        assertTrue(scrape.body().contains("http_server_requests_statements_bucket"));
+        assertTrue(scrape.body().contains("auth_jwt_validation_seconds_bucket"));
+        assertTrue(scrape.body().contains("hikaricp_connections_active"));
+        assertTrue(scrape.body().contains("db_concurrency_available"));
+        assertTrue(scrape.body().contains("hibernate_"));
+    }
+
+    @Test
+    void testMetricsEndpoint_RequiresTokenOnManagementPort() throws Exception {
+        assertEquals(403, get(managementPort, "/actuator/metrics", null).statusCode());
+        assertEquals(200, get(managementPort, "/actuator/health", null).statusCode());
+    }
+
+    @Test
+    void testActuator_NotServedOnApplicationPort() throws Exception {
+        assertEquals(403, get("/api/actuator/prometheus", null).statusCode());
+        assertNotEquals(200, get("/api/actuator/prometheus", token).statusCode());
+        assertEquals(403, get("/api/actuator/health", null).statusCode());
+    }
+
+    private HttpResponse<String> get(String path, String bearer) throws Exception {
+        return get(port, path, bearer);
+    }
+
+    private HttpResponse<String> get(int serverPort, String path, String bearer) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + serverPort + path));
+        if (bearer != null) {
+            request.header("Authorization", "Bearer " + bearer);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,83 @@
+package com.sample.poc.integration;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import com.sample.poc.domain.model.User;
+
+@SpringBootTest(properties = {
+        "app.rate-limit.routes[0].name=tasklists",
+        "app.rate-limit.routes[0].pattern=/api/tasklists",
+        "app.rate-limit.routes[0].methods=GET",
+        "app.rate-limit.routes[0].capacity=3",
+        "app.rate-limit.routes[0].period=1m",
+        "app.rate-limit.routes[1].name=auth",
+        "app.rate-limit.routes[1].pattern=/api/auth/**",
+        "app.rate-limit.routes[1].key=ip",
+        "app.rate-limit.routes[1].capacity=2",
+        "app.rate-limit.routes[1].period=1m"
+})
+class RateLimitIntegrationTest extends AbstractUserIntegrationTest {
+
+    @Test
+    void testPerUserLimit_429AfterCapacity() throws Exception {
+        getTaskLists(token)
+                .andExpect(status().isOk())
+                .andExpect(header().string("RateLimit-Limit", "3"))
+                .andExpect(header().string("RateLimit-Remaining", "2"))
+                .andExpect(header().string("RateLimit-Policy", "3;w=60"));
+        getTaskLists(token).andExpect(status().isOk());
+        getTaskLists(token).andExpect(status().isOk()).andExpect(header().string("RateLimit-Remaining", "0"));
+
+        getTaskLists(token)
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "20"))
+                .andExpect(jsonPath("$.status").value(429));
+
+        // Another user has its own bucket.
+        getTaskLists(tokenForNewUser()).andExpect(status().isOk());
+    }
+
+    @Test
+    void testAuthRoutes_LimitedByIp() throws Exception {
+        String body = "{\"email\":\"nobody@example.com\",\"password\":\"wrong-password\"}";
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/api/auth/login").with(remoteAddr("10.0.0.1"))
+                    .contentType(MediaType.APPLICATION_JSON).content(body))
+                    .andExpect(status().isBadRequest());
+        }
+
+        mockMvc.perform(post("/api/auth/login").with(remoteAddr("10.0.0.1"))
+                .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isTooManyRequests());
+        mockMvc.perform(post("/api/auth/login").with(remoteAddr("10.0.0.2"))
+                .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isBadRequest());
+    }
+
+    private ResultActions getTaskLists(String token) throws Exception {
+        return mockMvc.perform(get("/api/tasklists").header("Authorization", "Bearer " + token));
+    }
+
+    private String tokenForNewUser() {
+        User other = saveUser();
+        return jwtUtil.generateAccessToken(other.getEmail(), other.getId());
+    }
+
+    private static RequestPostProcessor remoteAddr(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+}
@@ -0,0 +1,118 @@
+package com.sample.poc.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.sample.poc.application.event.ChangeEvent;
+import com.sample.poc.application.service.ExportService;
+import com.sample.poc.domain.model.CacheRegions;
+import com.sample.poc.domain.model.Task;
+import com.sample.poc.domain.model.TaskList;
+import com.sample.poc.infrastructure.invalidation.InvalidationMessage;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+class SecondLevelCacheIntegrationTest extends AbstractUserIntegrationTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        statistics = sessionFactory.getStatistics();
+        cache = sessionFactory.getCache();
+    }
+
+    @Test
+    void testOwnershipCheck_ServedFromQueryCache() {
+        taskListRepository.findByIdAndUser(taskList.getId(), user).orElseThrow();
+
+        statistics.clear();
+        TaskList cached = taskListRepository.findByIdAndUser(taskList.getId(), user).orElseThrow();
+
+        assertEquals("List", cached.getName());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    void testListWrite_InvalidatesCachedQueries() {
+        assertTrue(taskListRepository.existsByNameAndUser("List", user));
+        assertFalse(taskListRepository.existsByNameAndUser("Renamed", user));
+
+        taskList.setName("Renamed");
+        taskListRepository.save(taskList);
+
+        statistics.clear();
+        assertTrue(taskListRepository.existsByNameAndUser("Renamed", user));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testRemoteChange_EvictsEntityAndQueries() {
+        taskListRepository.findByIdAndUser(taskList.getId(), user).orElseThrow();
+        assertTrue(cache.containsEntity(TaskList.class, taskList.getId()));
+
+        eventPublisher.publishEvent(new InvalidationMessage("other-node", InvalidationMessage.Type.CHANGE, null,
+                ChangeEvent.taskList(user.getId(), ChangeEvent.Action.UPDATED, taskList.getId())));
+
+        assertFalse(cache.containsEntity(TaskList.class, taskList.getId()));
+        statistics.clear();
+        taskListRepository.findByIdAndUser(taskList.getId(), user).orElseThrow();
+        assertEquals(0, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    void testExport_BypassesCache() throws Exception {
+        Task task = taskRepository.save(Task.builder().title("Task").taskList(taskList).build());
+        cache.evictAllRegions();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        authenticate();
+        statistics.clear();
+        exportService.exportCurrentUser(out);
+
+        assertEquals(2, out.toString(StandardCharsets.UTF_8).lines().count());
+        assertEquals(0, statistics.getSecondLevelCachePutCount());
+        assertFalse(cache.containsEntity(TaskList.class, taskList.getId()));
+        assertFalse(cache.containsEntity(Task.class, task.getId()));
+    }
+
+    @Test
+    void testRegionStatistics_Exported() {
+        for (String region : List.of(CacheRegions.USERS, CacheRegions.TASK_LISTS, CacheRegions.TASKS)) {
+            assertNotNull(meterRegistry.find("hibernate.second.level.cache.requests").tag("region", region).meter(),
+                    region);
+        }
+    }
+}
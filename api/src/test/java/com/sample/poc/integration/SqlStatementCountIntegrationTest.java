@@ -0,0 +1,255 @@
+package com.sample.poc.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.DefaultMockMvcBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.jayway.jsonpath.JsonPath;
+import com.sample.poc.domain.model.Task;
+import com.sample.poc.domain.model.TaskList;
+import com.sample.poc.infrastructure.cache.UserCache;
+import com.sample.poc.infrastructure.metrics.StatementCountFilter;
+import com.sample.poc.infrastructure.persistence.StatementBudget;
+import com.sample.poc.infrastructure.persistence.StatementBudgetExceededException;
+import com.sample.poc.infrastructure.persistence.StatementBudgetProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Pins the number of SQL statements each endpoint issues, so fetch-plan
+ * regressions (EAGER associations, N+1 lazy loads) fail the build. Every
+ * request also goes through {@link StatementCountFilter}, which fails it when
+ * it goes over {@code app.sql.budget.max-statements}.
+ */
+@SpringBootTest
+class SqlStatementCountIntegrationTest extends AbstractUserIntegrationTest {
+
+    private static final int LISTS = 5;
+    private static final int TASKS_PER_LIST = 4;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserCache userCache;
+
+    @Autowired
+    private StatementCountFilter statementCountFilter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+    private List<TaskList> taskLists;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // The fixture's list is the first of LISTS, each with TASKS_PER_LIST tasks, one of them completed.
+        taskLists = new ArrayList<>();
+        for (int i = 0; i < LISTS; i++) {
+            TaskList list = i == 0
+                    ? taskList
+                    : taskListRepository.save(TaskList.builder().name("List " + i).user(user).build());
+            for (int j = 0; j < TASKS_PER_LIST; j++) {
+                taskRepository.save(Task.builder().title("Task " + j).completed(j == 0).taskList(list).build());
+            }
+            taskLists.add(list);
+        }
+    }
+
+    @Override
+    protected DefaultMockMvcBuilder configure(DefaultMockMvcBuilder builder) {
+        return builder.addFilters(statementCountFilter);
+    }
+
+    @Test
+    void testGetTaskListById_SingleStatement() throws Exception {
+        long statements = countStatements(() -> perform("/api/tasklists/" + taskLists.get(0).getId())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.taskCount").value(TASKS_PER_LIST)));
+
+        assertEquals(1, statements);
+    }
+
+    @Test
+    void testGetTasksByTaskListId_SingleStatement() throws Exception {
+        long statements = countStatements(() -> perform("/api/tasks/tasklist/" + taskLists.get(0).getId())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(TASKS_PER_LIST)));
+
+        assertEquals(1, statements);
+    }
+
+    @Test
+    void testGetTaskPage_OwnershipCheckAndRangeScan() throws Exception {
+        long statements = countStatements(() -> perform("/api/tasks/tasklist/" + taskLists.get(0).getId() + "?size=3")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(3))
+                .andExpect(jsonPath("$.hasMore").value(true)));
+
+        assertEquals(2, statements);
+    }
+
+    @Test
+    void testGetTaskPage_WalksAllTasks() throws Exception {
+        String url = "/api/tasks/tasklist/" + taskLists.get(0).getId() + "?size=3";
+
+        String first = perform(url).andReturn().getResponse().getContentAsString();
+        String cursor = JsonPath.read(first, "$.nextCursor");
+
+        perform(url + "&cursor=" + cursor)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(TASKS_PER_LIST - 3))
+                .andExpect(jsonPath("$.items[0].completed").value(true))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    void testGetUserTaskLists_SingleStatement() throws Exception {
+        long statements = countStatements(() -> perform("/api/tasklists")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(LISTS))
+                .andExpect(jsonPath("$[0].taskCount").value(TASKS_PER_LIST))
+                .andExpect(jsonPath("$[0].completedCount").value(1)));
+
+        assertEquals(1, statements);
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void testExport_TwoStreamingStatements() throws Exception {
+        MvcResult[] result = new MvcResult[1];
+        long statements = countStatements(() -> result[0] = perform("/api/export")
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn());
+
+        String[] lines = result[0].getResponse().getContentAsString().split("\n");
+        assertEquals(LISTS + LISTS * TASKS_PER_LIST, lines.length);
+        assertEquals("taskList", JsonPath.read(lines[0], "$.type"));
+        assertEquals("task", JsonPath.read(lines[LISTS], "$.type"));
+        assertEquals(2, statements);
+    }
+
+    @Test
+    void testBatch_SetBasedStatementsPerOperation() throws Exception {
+        List<Task> tasks = taskRepository.findByTaskListId(taskLists.get(0).getId());
+        String ids = tasks.stream().map(task -> String.valueOf(task.getId())).collect(Collectors.joining(","));
+        String body = "{\"operations\":["
+                + "{\"op\":\"UPDATE\",\"ids\":[" + ids + "," + Long.MAX_VALUE + "],\"completed\":true},"
+                + "{\"op\":\"DELETE\",\"ids\":[" + ids + "]}]}";
+
+        long statements = countStatements(() -> perform(post("/api/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(2 * TASKS_PER_LIST))
+                .andExpect(jsonPath("$.results[0].notFound[0]").value(Long.MAX_VALUE)));
+
+        // update: ownership + UPDATE; delete: ownership + tombstone INSERT ... SELECT + DELETE;
+        // commit: lock and bump the sync clock + restamp tasks and tombstones
+        assertEquals(9, statements);
+        assertEquals(0, taskRepository.findByTaskListId(taskLists.get(0).getId()).size());
+    }
+
+    @Test
+    void testDeleteTaskList_BulkStatements() throws Exception {
+        Long id = taskLists.get(0).getId();
+
+        long statements = countStatements(() -> perform(delete("/api/tasklists/" + id))
+                .andExpect(status().isNoContent()));
+
+        // ownership check + one DELETE for the tasks + one for the list + the tombstone;
+        // commit: lock and bump the sync clock + stamp the tombstone
+        assertEquals(7, statements);
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertFalse(taskListRepository.existsById(id));
+        assertEquals(0, taskRepository.findByTaskListId(id).size());
+    }
+
+    @Test
+    void testDeleteTaskListAsync_PurgesInBackground() throws Exception {
+        Long id = taskLists.get(0).getId();
+
+        perform(delete("/api/tasklists/" + id + "?async=true"))
+                .andExpect(status().isAccepted());
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (taskListRepository.existsById(id) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertFalse(taskListRepository.existsById(id));
+        assertEquals(0, taskRepository.findByTaskListId(id).size());
+    }
+
+    @Test
+    void testLoadUser_DoesNotFetchTaskLists() throws Exception {
+        userCache.clear();
+
+        long statements = countStatements(() -> userRepository.findByEmail(user.getEmail()).orElseThrow());
+
+        assertEquals(1, statements);
+        assertEquals(0, statistics.getCollectionFetchCount());
+    }
+
+    @Test
+    void testStatementBudget_FailsRequestOverBudget() throws Exception {
+        StatementBudgetProperties tight = new StatementBudgetProperties();
+        tight.setMaxStatements(0);
+        tight.setFailOnViolation(true);
+        MockMvc budgeted = MockMvcBuilders.webAppContextSetup(context)
+                .addFilters(new StatementCountFilter(meterRegistry, new StatementBudget(tight)))
+                .apply(springSecurity())
+                .build();
+
+        StatementBudgetExceededException exception = assertThrows(StatementBudgetExceededException.class,
+                () -> budgeted.perform(get("/api/tasks/tasklist/" + taskLists.get(0).getId())
+                        .header("Authorization", "Bearer " + token)));
+
+        assertTrue(exception.getMessage().contains("GET /api/tasks/tasklist/{id}"));
+        assertTrue(exception.getMessage().contains("1x select"));
+    }
+
+    private ResultActions perform(String url) throws Exception {
+        return perform(get(url));
+    }
+
+    private long countStatements(ThrowingRunnable action) throws Exception {
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
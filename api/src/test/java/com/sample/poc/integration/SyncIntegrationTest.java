@@ -0,0 +1,212 @@
+package com.sample.poc.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jayway.jsonpath.JsonPath;
+import com.sample.poc.application.dto.ImportResult;
+import com.sample.poc.application.dto.SyncToken;
+import com.sample.poc.application.service.TaskImportService;
+import com.sample.poc.domain.model.Task;
+import com.sample.poc.domain.model.User;
+
+@SpringBootTest
+class SyncIntegrationTest extends AbstractUserIntegrationTest {
+
+    private static final int TASKS = 5;
+
+    @Autowired
+    private TaskImportService taskImportService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Override
+    protected int taskCount() {
+        return TASKS;
+    }
+
+    @Test
+    void testInitialSync_ReturnsEverything() throws Exception {
+        String body = sync(null, null).andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+
+        assertEquals(1, (int) JsonPath.read(body, "$.taskLists.length()"));
+        assertEquals(TASKS, (int) JsonPath.read(body, "$.tasks.length()"));
+        assertEquals(taskList.getId().intValue(), (int) JsonPath.read(body, "$.tasks[0].taskListId"));
+        assertEquals(0, (int) JsonPath.read(body, "$.deleted.length()"));
+        assertFalse((boolean) JsonPath.read(body, "$.hasMore"));
+    }
+
+    @Test
+    void testDeltaSync_OnlyChangesAndTombstones() throws Exception {
+        String since = JsonPath.read(sync(null, null).andReturn().getResponse().getContentAsString(), "$.nextToken");
+
+        perform(put("/api/tasks/" + tasks.get(0).getId() + "/true")).andExpect(status().isOk());
+        perform(delete("/api/tasks/" + tasks.get(1).getId())).andExpect(status().isNoContent());
+
+        String body = sync(since, null).andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+
+        assertEquals(0, (int) JsonPath.read(body, "$.taskLists.length()"));
+        assertEquals(1, (int) JsonPath.read(body, "$.tasks.length()"));
+        assertEquals(tasks.get(0).getId().intValue(), (int) JsonPath.read(body, "$.tasks[0].id"));
+        assertTrue((boolean) JsonPath.read(body, "$.tasks[0].completed"));
+        assertEquals(1, (int) JsonPath.read(body, "$.deleted.length()"));
+        assertEquals("TASK", JsonPath.read(body, "$.deleted[0].type"));
+        assertEquals(tasks.get(1).getId().intValue(), (int) JsonPath.read(body, "$.deleted[0].id"));
+    }
+
+    @Test
+    void testDeletedList_Tombstone() throws Exception {
+        String since = JsonPath.read(sync(null, null).andReturn().getResponse().getContentAsString(), "$.nextToken");
+
+        perform(delete("/api/tasklists/" + taskList.getId())).andExpect(status().isNoContent());
+
+        String body = sync(since, null).andReturn().getResponse().getContentAsString();
+        assertEquals("TASK_LIST", JsonPath.read(body, "$.deleted[0].type"));
+        assertEquals(taskList.getId().intValue(), (int) JsonPath.read(body, "$.deleted[0].id"));
+    }
+
+    @Test
+    void testForeignTask_NotFound_NothingRecorded() throws Exception {
+        String since = JsonPath.read(sync(null, null).andReturn().getResponse().getContentAsString(), "$.nextToken");
+        User other = saveUser();
+        String otherToken = jwtUtil.generateAccessToken(other.getEmail(), other.getId());
+        Long id = tasks.get(0).getId();
+
+        mockMvc.perform(put("/api/tasks/" + id + "/true").header("Authorization", "Bearer " + otherToken))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(delete("/api/tasks/" + id).header("Authorization", "Bearer " + otherToken))
+                .andExpect(status().isNotFound());
+
+        assertTrue(taskRepository.existsById(id));
+        String body = sync(since, null).andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+        assertEquals(0, (int) JsonPath.read(body, "$.tasks.length()"));
+        assertEquals(0, (int) JsonPath.read(body, "$.deleted.length()"));
+    }
+
+    @Test
+    void testLateCommit_StillSynced() throws Exception {
+        String since = JsonPath.read(sync(null, null).andReturn().getResponse().getContentAsString(), "$.nextToken");
+
+        // A writes first but commits last, after the client already synced past B.
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> slow = CompletableFuture.runAsync(() ->
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                    Task task = taskRepository.findById(tasks.get(0).getId()).orElseThrow();
+                    task.setTitle("Slow");
+                    taskRepository.saveAndFlush(task);
+                    written.countDown();
+                    await(release);
+                }));
+        await(written);
+
+        perform(put("/api/tasks/" + tasks.get(1).getId() + "/true")).andExpect(status().isOk());
+        String body = sync(since, null).andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+        assertEquals(List.of(tasks.get(1).getId().intValue()), JsonPath.read(body, "$.tasks[*].id"));
+
+        release.countDown();
+        slow.get(10, TimeUnit.SECONDS);
+
+        body = sync(JsonPath.read(body, "$.nextToken"), null).andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertEquals(List.of(tasks.get(0).getId().intValue()), JsonPath.read(body, "$.tasks[*].id"));
+        assertEquals("Slow", JsonPath.read(body, "$.tasks[0].title"));
+    }
+
+    @Test
+    void testLargeImport_Synced() throws Exception {
+        String since = JsonPath.read(sync(null, null).andReturn().getResponse().getContentAsString(), "$.nextToken");
+
+        authenticate();
+        String items = IntStream.range(0, 120)
+                .mapToObj(i -> "{\"title\":\"Imported " + i + "\"}")
+                .collect(Collectors.joining(",", "[", "]"));
+        ImportResult result = taskImportService.importJson(taskList.getId(),
+                new ByteArrayInputStream(items.getBytes(StandardCharsets.UTF_8)));
+
+        String body = sync(since, null).andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+        List<Integer> ids = JsonPath.read(body, "$.tasks[*].id");
+        assertEquals(result.getImported(), ids.size());
+    }
+
+    @Test
+    void testPaging_WalksEveryRowOnce() throws Exception {
+        Set<Integer> seen = new HashSet<>();
+        String since = null;
+        boolean hasMore = true;
+        int pages = 0;
+        while (hasMore) {
+            String body = sync(since, 2).andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+            List<Integer> ids = JsonPath.read(body, "$.tasks[*].id");
+            for (Integer id : ids) {
+                assertTrue(seen.add(id), "task sent twice: " + id);
+            }
+            since = JsonPath.read(body, "$.nextToken");
+            hasMore = JsonPath.read(body, "$.hasMore");
+            pages++;
+        }
+
+        assertEquals(TASKS, seen.size());
+        assertEquals(3, pages);
+    }
+
+    @Test
+    void testExpiredToken_Gone() throws Exception {
+        SyncToken.Position position = SyncToken.Position.from(0L);
+        String expired = new SyncToken(LocalDateTime.now().minusDays(60), position, position, position).encode();
+
+        sync(expired, null).andExpect(status().isGone());
+    }
+
+    @Test
+    void testInvalidToken_BadRequest() throws Exception {
+        sync("not-a-token", null).andExpect(status().isBadRequest());
+    }
+
+    private ResultActions sync(String since, Integer limit) throws Exception {
+        MockHttpServletRequestBuilder request = get("/api/sync");
+        if (since != null) {
+            request.param("since", since);
+        }
+        if (limit != null) {
+            request.param("limit", String.valueOf(limit));
+        }
+        return perform(request);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
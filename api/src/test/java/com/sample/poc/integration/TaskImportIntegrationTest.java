@@ -0,0 +1,197 @@
+package com.sample.poc.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.setup.DefaultMockMvcBuilder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.sample.poc.application.dto.ImportResult;
+import com.sample.poc.application.service.TaskImportService;
+import com.sample.poc.infrastructure.metrics.StatementCountFilter;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+class TaskImportIntegrationTest extends AbstractUserIntegrationTest {
+
+    private static final int ITEMS = 120;
+    private static final int LARGE_ITEMS = 1500;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TaskImportService taskImportService;
+
+    @Autowired
+    private StatementCountFilter statementCountFilter;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Override
+    protected DefaultMockMvcBuilder configure(DefaultMockMvcBuilder builder) {
+        return builder.addFilters(statementCountFilter);
+    }
+
+    @Test
+    void testImportJson_ReportsInvalidItemsAndBatchesInserts() throws Exception {
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i < ITEMS; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            String title = i == 7 ? "" : "Task " + i;
+            body.append("{\"title\":\"").append(title).append("\",\"completed\":").append(i % 2 == 0).append('}');
+        }
+        body.append(']');
+
+        statistics.clear();
+        perform(post("/api/tasks/tasklist/" + taskList.getId() + "/import")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(ITEMS))
+                .andExpect(jsonPath("$.imported").value(ITEMS - 1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.items[7].status").value("FAILED"))
+                .andExpect(jsonPath("$.items[8].status").value("CREATED"));
+
+        assertEquals(ITEMS - 1, taskRepository.findByTaskListId(taskList.getId()).size());
+        // One insert per batch plus a few sequence calls, instead of one statement per row.
+        assertTrue(statistics.getPrepareStatementCount() < 15,
+                "statements: " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testImportJson_LargeImportWithinRouteBudget() throws Exception {
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i < LARGE_ITEMS; i++) {
+            body.append(i > 0 ? "," : "").append("{\"title\":\"Task ").append(i).append("\"}");
+        }
+        body.append(']');
+
+        statistics.clear();
+        // Over the global max-statements, so this only passes through the import route's own budget.
+        perform(post("/api/tasks/tasklist/" + taskList.getId() + "/import")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(LARGE_ITEMS));
+
+        assertTrue(statistics.getPrepareStatementCount() > 20,
+                "statements: " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testImportJson_OverLimitRejectedWhileStreaming() {
+        byte[] item = "{\"title\":\"Task\"},".getBytes(StandardCharsets.UTF_8);
+        // Never ends: the import must stop at the limit instead of buffering the array.
+        InputStream endless = new InputStream() {
+            private long position;
+
+            @Override
+            public int read() {
+                long i = position++;
+                return i == 0 ? '[' : item[(int) ((i - 1) % item.length)];
+            }
+        };
+
+        authenticate();
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> taskImportService.importJson(taskList.getId(), endless));
+
+        assertTrue(error.getMessage().contains("no máximo"), error.getMessage());
+        assertEquals(0, taskRepository.findByTaskListId(taskList.getId()).size());
+    }
+
+    @Test
+    void testImportJson_Malformed_BadRequest() throws Exception {
+        perform(post("/api/tasks/tasklist/" + taskList.getId() + "/import")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"title\":\"First\"}, {not json"))
+                .andExpect(status().isBadRequest());
+
+        perform(post("/api/tasks/tasklist/" + taskList.getId() + "/import")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"First\"}"))
+                .andExpect(status().isBadRequest());
+
+        assertEquals(0, taskRepository.findByTaskListId(taskList.getId()).size());
+    }
+
+    @Test
+    void testImportNdjson_MalformedLineFailsOnlyThatItem() throws Exception {
+        String body = "{\"title\":\"First\"}\n"
+                + "{not json\n"
+                + "\n"
+                + "{\"title\":\"Third\",\"description\":\"d\",\"completed\":true}\n";
+
+        perform(post("/api/tasks/tasklist/" + taskList.getId() + "/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(3))
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.items[1].status").value("FAILED"))
+                .andExpect(jsonPath("$.items[1].error").value("JSON inválido"));
+
+        assertEquals(2, taskRepository.findByTaskListId(taskList.getId()).size());
+    }
+
+    @Test
+    void testImportNdjson_ReadsUploadOutsideTransaction() throws Exception {
+        byte[] body = "{\"title\":\"First\"}\n{\"title\":\"Second\"}\n".getBytes(StandardCharsets.UTF_8);
+        boolean[] readInTransaction = { false };
+        FilterInputStream upload = new FilterInputStream(new ByteArrayInputStream(body)) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                readInTransaction[0] |= TransactionSynchronizationManager.isActualTransactionActive();
+                return super.read(b, off, len);
+            }
+        };
+
+        authenticate();
+        ImportResult result = taskImportService.importNdjson(taskList.getId(), upload);
+
+        // A slow client must not hold a pooled connection while the body trickles in.
+        assertFalse(readInTransaction[0]);
+        assertEquals(2, result.getImported());
+        assertEquals(2, taskRepository.findByTaskListId(taskList.getId()).size());
+    }
+
+    @Test
+    void testImport_OtherUsersList_NotFound() throws Exception {
+        String otherToken = jwtUtil.generateAccessToken("nobody-" + UUID.randomUUID() + "@example.com", -1L);
+
+        mockMvc.perform(post("/api/tasks/tasklist/" + taskList.getId() + "/import")
+                .header("Authorization", "Bearer " + otherToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"title\":\"x\"}]"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,154 @@
+package com.sample.poc.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.jayway.jsonpath.JsonPath;
+import com.sample.poc.domain.model.User;
+import com.sample.poc.domain.repository.UserRepository;
+import com.sample.poc.infrastructure.security.JwtUtil;
+import com.sample.poc.infrastructure.security.TokenDenyList;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+class TokenRevocationIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TokenDenyList tokenDenyList;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private MockMvc mockMvc;
+    private User user;
+    private String accessToken;
+    private String refreshToken;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+
+        String email = "revoke-" + UUID.randomUUID() + "@example.com";
+        mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Revoke\",\"email\":\"" + email + "\",\"password\":\"password123\"}"))
+                .andExpect(status().isCreated());
+        String login = mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"" + email + "\",\"password\":\"password123\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        accessToken = JsonPath.read(login, "$.accessToken");
+        refreshToken = JsonPath.read(login, "$.refreshToken");
+        user = userRepository.findByEmail(email).orElseThrow();
+    }
+
+    @Test
+    void testLogout_RevokesAccessAndRefreshToken() throws Exception {
+        mockMvc.perform(post("/api/auth/logout")
+                .header("Authorization", "Bearer " + accessToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"refreshToken\":\"" + refreshToken + "\"}"))
+                .andExpect(status().isNoContent());
+
+        getTaskLists(accessToken).andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"refreshToken\":\"" + refreshToken + "\"}"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void testLogout_WithoutToken_Rejected() throws Exception {
+        mockMvc.perform(post("/api/auth/logout")).andExpect(status().isForbidden());
+    }
+
+    @Test
+    void testNotRevoked_NoDenyListQuery() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        getTaskLists(accessToken).andExpect(status().isOk());
+
+        // Only the task-list query itself; the Bloom filter answered the revocation check.
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testAdminRevokeToken() throws Exception {
+        String jti = jwtUtil.validateToken(accessToken).orElseThrow().tokenId();
+
+        mockMvc.perform(delete("/api/admin/tokens/" + jti)
+                .header("Authorization", "Bearer " + adminToken()))
+                .andExpect(status().isNoContent());
+
+        getTaskLists(accessToken).andExpect(status().isForbidden());
+    }
+
+    @Test
+    void testAdminRevokeUserTokens_RevokesRefreshTokens() throws Exception {
+        mockMvc.perform(delete("/api/admin/users/" + user.getId() + "/tokens")
+                .header("Authorization", "Bearer " + adminToken()))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(post("/api/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"refreshToken\":\"" + refreshToken + "\"}"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void testAdminEndpoints_ForbiddenForUsers() throws Exception {
+        mockMvc.perform(delete("/api/admin/tokens/" + UUID.randomUUID())
+                .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void testRebuild_KeepsLiveRevocations() throws Exception {
+        mockMvc.perform(post("/api/auth/logout").header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isNoContent());
+
+        tokenDenyList.rebuild();
+
+        assertTrue(tokenDenyList.isRevoked(jwtUtil.validateToken(accessToken).orElseThrow()));
+        getTaskLists(accessToken).andExpect(status().isForbidden());
+    }
+
+    private String adminToken() {
+        return jwtUtil.generateAccessToken("admin@example.com", 0L);
+    }
+
+    private ResultActions getTaskLists(String token) throws Exception {
+        return mockMvc.perform(get("/api/tasklists").header("Authorization", "Bearer " + token));
+    }
+}
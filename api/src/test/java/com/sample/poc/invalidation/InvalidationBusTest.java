@@ -0,0 +1,135 @@
+package com.sample.poc.invalidation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import com.sample.poc.application.event.ChangeEvent;
+import com.sample.poc.infrastructure.invalidation.InvalidationBus;
+import com.sample.poc.infrastructure.invalidation.InvalidationMessage;
+
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+@ExtendWith(MockitoExtension.class)
+class InvalidationBusTest {
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+
+    private InvalidationBus bus;
+
+    @BeforeEach
+    void setUp() {
+        bus = new InvalidationBus(jdbcTemplate, objectMapper, eventPublisher, false, "tasklist_invalidation",
+                "", "", "", 10000, 1000, 30000);
+    }
+
+    @Test
+    void testReceive_FromOtherNode_Published() {
+        bus.receive(payload(InvalidationMessage.user("a@example.com"), "other-node"));
+
+        ArgumentCaptor<InvalidationMessage> captor = ArgumentCaptor.forClass(InvalidationMessage.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertEquals(InvalidationMessage.Type.USER, captor.getValue().type());
+        assertEquals("a@example.com", captor.getValue().key());
+    }
+
+    @Test
+    void testReceive_ChangeEvent_RoundTrips() {
+        ChangeEvent change = ChangeEvent.tasks(1L, ChangeEvent.Action.UPDATED, 3L, List.of(4L, 5L));
+
+        bus.receive(payload(InvalidationMessage.change(change), "other-node"));
+
+        ArgumentCaptor<InvalidationMessage> captor = ArgumentCaptor.forClass(InvalidationMessage.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertEquals(change, captor.getValue().change());
+    }
+
+    @Test
+    void testReceive_OwnNotification_Ignored() {
+        bus.receive(payload(InvalidationMessage.token("jti"), bus.getNodeId()));
+
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void testReceive_Malformed_Ignored() {
+        bus.receive("not json");
+        bus.receive(payload(InvalidationMessage.all("other-node"), "other-node"));
+
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void testPublish_NotifiesChannelWithOrigin() {
+        InvalidationBus enabledBus = enabledBus();
+
+        enabledBus.publish(InvalidationMessage.token("jti"));
+
+        InvalidationMessage sent = objectMapper.readValue(sentPayload(), InvalidationMessage.class);
+        assertEquals(enabledBus.getNodeId(), sent.origin());
+        assertEquals(InvalidationMessage.Type.TOKEN, sent.type());
+        assertEquals("jti", sent.key());
+    }
+
+    @Test
+    void testPublish_Disabled_NoStatement() {
+        bus.publish(InvalidationMessage.token("jti"));
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void testPublish_OversizedChange_SentWithoutIds() {
+        List<Long> ids = LongStream.range(0, 5000).boxed().toList();
+        InvalidationBus enabledBus = enabledBus();
+
+        enabledBus.onChange(ChangeEvent.tasks(1L, ChangeEvent.Action.DELETED, null, ids));
+
+        String payload = sentPayload();
+        assertTrue(payload.length() < 8000);
+        InvalidationMessage decoded = objectMapper.readValue(payload, InvalidationMessage.class);
+        assertEquals(ChangeEvent.Action.DELETED, decoded.change().action());
+        assertTrue(decoded.change().ids().isEmpty());
+    }
+
+    private String payload(InvalidationMessage message, String origin) {
+        return objectMapper.writeValueAsString(
+                new InvalidationMessage(origin, message.type(), message.key(), message.change()));
+    }
+
+    private InvalidationBus enabledBus() {
+        return new InvalidationBus(jdbcTemplate, objectMapper, eventPublisher, true, "tasklist_invalidation",
+                "", "", "", 10000, 1000, 30000);
+    }
+
+    private String sentPayload() {
+        ArgumentCaptor<Object> args = ArgumentCaptor.forClass(Object.class);
+        verify(jdbcTemplate).query(eq("select pg_notify(?, ?)"), any(ResultSetExtractor.class), args.capture(), args.capture());
+        assertEquals("tasklist_invalidation", args.getAllValues().get(0));
+        return (String) args.getAllValues().get(1);
+    }
+}
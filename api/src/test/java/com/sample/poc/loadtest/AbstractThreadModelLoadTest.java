@@ -0,0 +1,166 @@
+package com.sample.poc.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import com.sample.poc.domain.model.Task;
+import com.sample.poc.domain.model.TaskList;
+import com.sample.poc.domain.model.User;
+import com.sample.poc.domain.repository.TaskListRepository;
+import com.sample.poc.domain.repository.TaskRepository;
+import com.sample.poc.domain.repository.UserRepository;
+import com.sample.poc.infrastructure.security.JwtUtil;
+
+/**
+ * Closed-loop load against a real embedded Tomcat: {@code loadtest.concurrency}
+ * clients call the list and task endpoints back to back for
+ * {@code loadtest.duration} seconds after a {@code loadtest.warmup} period.
+ * Subclasses pick the thread model; results
+ * go to stdout and {@code target/loadtest/<mode>.txt} for comparison.
+ * Run with {@code mvn test -Ploadtest}.
+ */
+@Tag("loadtest")
+abstract class AbstractThreadModelLoadTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 400);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.duration", 10);
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmup", 5);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskListRepository taskListRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private String token;
+    private List<URI> targets;
+
+    protected abstract String mode();
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(User.builder()
+                .name("Load")
+                .email("load-" + UUID.randomUUID() + "@example.com")
+                .password("hash")
+                .build());
+        TaskList taskList = taskListRepository.save(TaskList.builder().name("Load").user(user).build());
+        for (int i = 0; i < 50; i++) {
+            taskRepository.save(Task.builder().title("Task " + i).completed(i % 3 == 0).taskList(taskList).build());
+        }
+        token = jwtUtil.generateAccessToken(user.getEmail(), user.getId());
+
+        String base = "http://localhost:" + port + "/api/api";
+        targets = List.of(
+                URI.create(base + "/tasklists"),
+                URI.create(base + "/tasklists/" + taskList.getId()),
+                URI.create(base + "/tasks/tasklist/" + taskList.getId() + "?size=20"));
+    }
+
+    @Test
+    void measureThroughputAndLatency() throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicLong errors = new AtomicLong();
+        // Requests started during the warm-up (JIT, pools) are not recorded.
+        long measureFrom = System.nanoTime() + TimeUnit.SECONDS.toNanos(WARMUP_SECONDS);
+        long deadline = measureFrom + TimeUnit.SECONDS.toNanos(DURATION_SECONDS);
+
+        ExecutorService clients = Executors.newFixedThreadPool(CONCURRENCY);
+        for (int i = 0; i < CONCURRENCY; i++) {
+            int offset = i;
+            clients.submit(() -> {
+                List<Long> local = new ArrayList<>();
+                int n = offset;
+                while (System.nanoTime() < deadline) {
+                    HttpRequest request = HttpRequest.newBuilder(targets.get(n++ % targets.size()))
+                            .header("Authorization", "Bearer " + token)
+                            .timeout(Duration.ofSeconds(30))
+                            .GET()
+                            .build();
+                    long start = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200 && start >= measureFrom) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (IOException e) {
+                        if (start >= measureFrom) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                    if (start >= measureFrom) {
+                        local.add(System.nanoTime() - start);
+                    }
+                }
+                latencies.addAll(local);
+            });
+        }
+        clients.shutdown();
+        assertTrue(clients.awaitTermination(WARMUP_SECONDS + DURATION_SECONDS + 60L, TimeUnit.SECONDS));
+
+        String report = report(latencies, errors.get());
+        System.out.println(report);
+        Path file = Path.of("target", "loadtest", mode() + ".txt");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, report);
+
+        assertTrue(!latencies.isEmpty(), "no request completed");
+    }
+
+    private String report(List<Long> latencies, long errors) {
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        return String.format("mode=%s java=%d concurrency=%d duration=%ds requests=%d errors=%d "
+                + "throughput=%.1f req/s p50=%.2f ms p99=%.2f ms max=%.2f ms",
+                mode(), Runtime.version().feature(), CONCURRENCY, DURATION_SECONDS, sorted.size(), errors,
+                sorted.size() / (double) DURATION_SECONDS,
+                percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 1.0));
+    }
+
+    private static double percentile(List<Long> sorted, double p) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p * sorted.size()) - 1;
+        return sorted.get(Math.max(index, 0)) / 1_000_000.0;
+    }
+}
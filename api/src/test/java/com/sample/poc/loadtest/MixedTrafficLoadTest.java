@@ -0,0 +1,367 @@
+package com.sample.poc.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.sample.poc.domain.model.Task;
+import com.sample.poc.domain.model.TaskList;
+import com.sample.poc.domain.model.User;
+import com.sample.poc.domain.repository.TaskListRepository;
+import com.sample.poc.domain.repository.TaskRepository;
+import com.sample.poc.domain.repository.UserRepository;
+import com.sample.poc.infrastructure.security.JwtUtil;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * End-to-end mixed traffic against the real HTTP stack, on the in-process
+ * {@code loadtest} profile. Seeds {@code loadtest.users} users with
+ * {@code loadtest.lists} lists of {@code loadtest.tasks} tasks each; then
+ * {@code loadtest.concurrency} closed-loop clients, each acting as one of the
+ * users, repeat a weighted mix of what the dashboard does: log in, load the
+ * sidebar, open a list, toggle, create and delete tasks.
+ * <p>
+ * Per-endpoint throughput and latency percentiles are printed and written to
+ * {@code target/loadtest/mixed[-<loadtest.label>].json}, so runs on two
+ * branches can be diffed. Run with {@code mvn test -Ploadtest}.
+ */
+@Tag("loadtest")
+@ActiveProfiles("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class MixedTrafficLoadTest {
+
+    private static final int USERS = Integer.getInteger("loadtest.users", 50);
+    private static final int LISTS = Integer.getInteger("loadtest.lists", 5);
+    private static final int TASKS = Integer.getInteger("loadtest.tasks", 40);
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 100);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.duration", 30);
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmup", 10);
+    private static final long THINK_TIME_MS = Long.getLong("loadtest.think-time", 0);
+    private static final String LABEL = System.getProperty("loadtest.label", "");
+
+    private static final String PASSWORD = "loadtest-password";
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(-?\\d+)");
+
+    /** Operations and their share of the mix, in percent. */
+    enum Operation {
+        LOGIN(2), SIDEBAR(30), OPEN_LIST(35), TOGGLE(18), CREATE(10), DELETE(5);
+
+        private final int weight;
+
+        Operation(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskListRepository taskListRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private String base;
+    private List<SeededUser> users;
+
+    private record SeededUser(String email, String token, List<Long> listIds, List<Long> taskIds) {
+    }
+
+    @BeforeEach
+    void seed() {
+        base = "http://localhost:" + port + "/api/api";
+        // One hash for everyone: hashing N passwords would dominate the setup.
+        String hash = passwordEncoder.encode(PASSWORD);
+        String run = Long.toString(System.nanoTime(), 36);
+
+        users = new ArrayList<>(USERS);
+        for (int u = 0; u < USERS; u++) {
+            User user = userRepository.save(User.builder()
+                    .name("Load " + u)
+                    .email("load-" + run + "-" + u + "@example.com")
+                    .password(hash)
+                    .build());
+
+            List<TaskList> lists = new ArrayList<>(LISTS);
+            for (int l = 0; l < LISTS; l++) {
+                lists.add(TaskList.builder().name("List " + l).user(user).build());
+            }
+            taskListRepository.saveAll(lists);
+
+            List<Task> tasks = new ArrayList<>(LISTS * TASKS);
+            for (TaskList list : lists) {
+                for (int t = 0; t < TASKS; t++) {
+                    tasks.add(Task.builder().title("Task " + t).completed(t % 3 == 0).taskList(list).build());
+                }
+            }
+            taskRepository.saveAll(tasks);
+
+            users.add(new SeededUser(user.getEmail(), jwtUtil.generateAccessToken(user.getEmail(), user.getId()),
+                    lists.stream().map(TaskList::getId).toList(), tasks.stream().map(Task::getId).toList()));
+        }
+    }
+
+    @Test
+    void mixedTraffic() throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        Map<Operation, Samples> samples = new ConcurrentHashMap<>();
+        for (Operation operation : Operation.values()) {
+            samples.put(operation, new Samples());
+        }
+        // Requests started during the warm-up (JIT, pools, caches) are not recorded.
+        long measureFrom = System.nanoTime() + TimeUnit.SECONDS.toNanos(WARMUP_SECONDS);
+        long deadline = measureFrom + TimeUnit.SECONDS.toNanos(DURATION_SECONDS);
+
+        ExecutorService clients = Executors.newFixedThreadPool(CONCURRENCY);
+        for (int i = 0; i < CONCURRENCY; i++) {
+            Client loadClient = new Client(client, users.get(i % users.size()), i);
+            clients.submit(() -> loadClient.run(measureFrom, deadline, samples));
+        }
+        clients.shutdown();
+        assertTrue(clients.awaitTermination(WARMUP_SECONDS + DURATION_SECONDS + 60L, TimeUnit.SECONDS));
+
+        Map<String, Object> report = report(samples);
+        String json = JsonMapper.builder().build().writerWithDefaultPrettyPrinter().writeValueAsString(report);
+        System.out.println(json);
+        Path file = Path.of("target", "loadtest", LABEL.isEmpty() ? "mixed.json" : "mixed-" + LABEL + ".json");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, json);
+
+        assertTrue(samples.values().stream().anyMatch(s -> !s.latencies.isEmpty()), "no request completed");
+    }
+
+    /**
+     * One simulated user session. Deletes remove tasks this client created, so
+     * the seeded data set keeps its size.
+     */
+    private final class Client {
+
+        private final HttpClient http;
+        private final SeededUser user;
+        private final SplittableRandom random;
+        private final Deque<Long> created = new ArrayDeque<>();
+        private final Map<Operation, List<Long>> local = new EnumMap<>(Operation.class);
+        private final Map<Operation, Long> errors = new EnumMap<>(Operation.class);
+
+        Client(HttpClient http, SeededUser user, int seed) {
+            this.http = http;
+            this.user = user;
+            this.random = new SplittableRandom(seed);
+            for (Operation operation : Operation.values()) {
+                local.put(operation, new ArrayList<>());
+                errors.put(operation, 0L);
+            }
+        }
+
+        void run(long measureFrom, long deadline, Map<Operation, Samples> samples) {
+            try {
+                while (System.nanoTime() < deadline) {
+                    Operation operation = next();
+                    long start = System.nanoTime();
+                    boolean ok = execute(operation);
+                    if (start >= measureFrom) {
+                        local.get(operation).add(System.nanoTime() - start);
+                        if (!ok) {
+                            errors.merge(operation, 1L, Long::sum);
+                        }
+                    }
+                    if (THINK_TIME_MS > 0) {
+                        Thread.sleep(THINK_TIME_MS);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            local.forEach((operation, latencies) -> samples.get(operation).add(latencies, errors.get(operation)));
+        }
+
+        private Operation next() {
+            int roll = random.nextInt(100);
+            for (Operation operation : Operation.values()) {
+                roll -= operation.weight;
+                if (roll < 0) {
+                    return operation;
+                }
+            }
+            return Operation.SIDEBAR;
+        }
+
+        private boolean execute(Operation operation) throws InterruptedException {
+            return switch (operation) {
+                case LOGIN -> send(post("/auth/login", "{\"email\":\"" + user.email() + "\",\"password\":\""
+                        + PASSWORD + "\"}", false)) != null;
+                case SIDEBAR -> send(get("/tasklists")) != null;
+                case OPEN_LIST -> send(get("/tasks/tasklist/" + pick(user.listIds()) + "?size=20")) != null;
+                case TOGGLE -> send(authorized("/tasks/" + pick(user.taskIds()) + "/" + random.nextBoolean())
+                        .PUT(HttpRequest.BodyPublishers.noBody()).build()) != null;
+                case CREATE -> create();
+                case DELETE -> delete();
+            };
+        }
+
+        private boolean create() throws InterruptedException {
+            String body = send(post("/tasks", "{\"title\":\"Nova tarefa\",\"taskListId\":" + pick(user.listIds())
+                    + "}", true));
+            if (body == null) {
+                return false;
+            }
+            Matcher matcher = ID.matcher(body);
+            if (matcher.find()) {
+                created.push(Long.parseLong(matcher.group(1)));
+            }
+            return true;
+        }
+
+        private boolean delete() throws InterruptedException {
+            Long id = created.poll();
+            if (id == null) {
+                // Nothing of ours to delete yet; make one instead so the mix stays write-heavy.
+                return create();
+            }
+            return send(authorized("/tasks/" + id).DELETE().build()) != null;
+        }
+
+        private Long pick(List<Long> ids) {
+            return ids.get(random.nextInt(ids.size()));
+        }
+
+        private HttpRequest get(String path) {
+            return authorized(path).GET().build();
+        }
+
+        private HttpRequest post(String path, String json, boolean authorized) {
+            HttpRequest.Builder builder = authorized ? authorized(path) : request(path);
+            return builder.header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(json))
+                    .build();
+        }
+
+        private HttpRequest.Builder authorized(String path) {
+            return request(path).header("Authorization", "Bearer " + user.token());
+        }
+
+        private HttpRequest.Builder request(String path) {
+            return HttpRequest.newBuilder(URI.create(base + path)).timeout(Duration.ofSeconds(30));
+        }
+
+        /** Returns the body of a 2xx response, or null on any failure. */
+        private String send(HttpRequest request) throws InterruptedException {
+            try {
+                HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+                return response.statusCode() / 100 == 2 ? response.body() : null;
+            } catch (IOException e) {
+                return null;
+            }
+        }
+    }
+
+    private static final class Samples {
+
+        private final List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        private long errors;
+
+        synchronized void add(List<Long> values, long errorCount) {
+            latencies.addAll(values);
+            errors += errorCount;
+        }
+    }
+
+    private Map<String, Object> report(Map<Operation, Samples> samples) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("label", LABEL);
+        report.put("timestamp", Instant.now().toString());
+        report.put("java", Runtime.version().feature());
+        report.put("users", USERS);
+        report.put("listsPerUser", LISTS);
+        report.put("tasksPerList", TASKS);
+        report.put("concurrency", CONCURRENCY);
+        report.put("durationSeconds", DURATION_SECONDS);
+        report.put("thinkTimeMs", THINK_TIME_MS);
+
+        List<Long> all = new ArrayList<>();
+        long allErrors = 0;
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        for (Operation operation : Operation.values()) {
+            Samples operationSamples = samples.get(operation);
+            all.addAll(operationSamples.latencies);
+            allErrors += operationSamples.errors;
+            endpoints.put(operation.name().toLowerCase(), stats(operationSamples.latencies, operationSamples.errors));
+        }
+        report.put("total", stats(all, allErrors));
+        report.put("endpoints", endpoints);
+        return report;
+    }
+
+    private static Map<String, Object> stats(List<Long> latencies, long errors) {
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("requests", sorted.size());
+        stats.put("errors", errors);
+        stats.put("throughput", round(sorted.size() / (double) DURATION_SECONDS));
+        stats.put("p50Ms", percentile(sorted, 0.50));
+        stats.put("p90Ms", percentile(sorted, 0.90));
+        stats.put("p99Ms", percentile(sorted, 0.99));
+        stats.put("maxMs", percentile(sorted, 1.0));
+        return stats;
+    }
+
+    private static double percentile(List<Long> sorted, double p) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p * sorted.size()) - 1;
+        return round(sorted.get(Math.max(index, 0)) / 1_000_000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
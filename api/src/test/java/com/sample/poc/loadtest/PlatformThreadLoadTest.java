@@ -0,0 +1,16 @@
+package com.sample.poc.loadtest;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.threads.virtual.enabled=false",
+        "app.rate-limit.enabled=false",
+        "server.tomcat.threads.max=200"
+})
+class PlatformThreadLoadTest extends AbstractThreadModelLoadTest {
+
+    @Override
+    protected String mode() {
+        return "platform";
+    }
+}
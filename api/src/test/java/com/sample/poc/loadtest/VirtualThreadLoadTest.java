@@ -0,0 +1,24 @@
+package com.sample.poc.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.threads.virtual.enabled=true",
+        "app.rate-limit.enabled=false"
+})
+class VirtualThreadLoadTest extends AbstractThreadModelLoadTest {
+
+    @BeforeAll
+    static void requireVirtualThreads() {
+        // Fail rather than skip: a load run without this half compares nothing.
+        assertTrue(Runtime.version().feature() >= 21, "virtual threads need JDK 21+ (java21 profile)");
+    }
+
+    @Override
+    protected String mode() {
+        return "virtual";
+    }
+}
@@ -0,0 +1,67 @@
+package com.sample.poc.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.sample.poc.infrastructure.logging.CorrelationIdFilter;
+import com.sample.poc.infrastructure.logging.MdcTaskDecorator;
+
+class CorrelationIdFilterTest {
+
+    private final CorrelationIdFilter filter = new CorrelationIdFilter();
+
+    @Test
+    void testIncomingId_PropagatedToMdcAndResponse() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasklists");
+        request.addHeader(CorrelationIdFilter.HEADER, "abc-123");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<String> seen = new AtomicReference<>();
+
+        filter.doFilter(request, response, (req, res) -> seen.set(MDC.get(CorrelationIdFilter.MDC_KEY)));
+
+        assertEquals("abc-123", seen.get());
+        assertEquals("abc-123", response.getHeader(CorrelationIdFilter.HEADER));
+        assertNull(MDC.get(CorrelationIdFilter.MDC_KEY));
+    }
+
+    @Test
+    void testMissingOrUnsafeId_Generated() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasklists");
+        request.addHeader(CorrelationIdFilter.HEADER, "bad id\n{\"forged\":true}");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<String> seen = new AtomicReference<>();
+
+        filter.doFilter(request, response, (req, res) -> seen.set(MDC.get(CorrelationIdFilter.MDC_KEY)));
+
+        assertNotNull(seen.get());
+        assertNotEquals("bad id\n{\"forged\":true}", seen.get());
+        assertEquals(seen.get(), response.getHeader(CorrelationIdFilter.HEADER));
+    }
+
+    @Test
+    void testTaskDecorator_CarriesIdToWorkerThread() throws Exception {
+        AtomicReference<String> seen = new AtomicReference<>();
+        MDC.put(CorrelationIdFilter.MDC_KEY, "req-1");
+        Runnable task;
+        try {
+            task = new MdcTaskDecorator().decorate(() -> seen.set(MDC.get(CorrelationIdFilter.MDC_KEY)));
+        } finally {
+            MDC.clear();
+        }
+
+        Thread worker = new Thread(task);
+        worker.start();
+        worker.join();
+
+        assertEquals("req-1", seen.get());
+    }
+}
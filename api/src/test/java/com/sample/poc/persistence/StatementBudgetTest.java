@@ -0,0 +1,105 @@
+package com.sample.poc.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sample.poc.infrastructure.persistence.StatementBudget;
+import com.sample.poc.infrastructure.persistence.StatementBudgetExceededException;
+import com.sample.poc.infrastructure.persistence.StatementBudgetProperties;
+import com.sample.poc.infrastructure.persistence.StatementCounter;
+
+class StatementBudgetTest {
+
+    private static final String TASKS_BY_LIST = "select t1_0.id,t1_0.title from tasks t1_0 where t1_0.task_list_id=?";
+
+    private final StatementCounter counter = new StatementCounter();
+    private StatementBudgetProperties properties;
+    private StatementBudget budget;
+
+    @BeforeEach
+    void setUp() {
+        properties = new StatementBudgetProperties();
+        properties.setMaxStatements(3);
+        properties.setMaxTime(Duration.ofSeconds(1));
+        properties.setFailOnViolation(true);
+        budget = new StatementBudget(properties);
+    }
+
+    @Test
+    void testCounter_CountsOnlyInsideWindow() {
+        counter.inspect(TASKS_BY_LIST);
+
+        StatementCounter.start();
+        counter.inspect(TASKS_BY_LIST);
+        counter.inspect(TASKS_BY_LIST);
+        counter.inspect("select 1");
+        StatementCounter.Stats stats = StatementCounter.stop();
+
+        assertEquals(3, stats.statements());
+        assertEquals(Map.of(TASKS_BY_LIST, 2, "select ?", 1), stats.fingerprints());
+        assertEquals(0, StatementCounter.stop().statements());
+    }
+
+    @Test
+    void testFingerprint_CollapsesLiteralsAndInLists() {
+        assertEquals(
+                StatementCounter.fingerprint("select * from tasks t1_0 where t1_0.id in (?, ?, ?) and t1_0.title = 'a'"),
+                StatementCounter.fingerprint("select *  from tasks t1_0\nwhere t1_0.id in (?,?) and t1_0.title = 'it''s'"));
+        assertEquals("delete from tasks where id in (?...) and version=?",
+                StatementCounter.fingerprint("delete from tasks where id in (?, ?) and version=7"));
+    }
+
+    @Test
+    void testOverStatementBudget_FailsWithRepeatedStatement() {
+        StatementCounter.start();
+        for (int i = 0; i < 5; i++) {
+            counter.inspect(TASKS_BY_LIST);
+        }
+        counter.inspect("select u1_0.id from users u1_0 where u1_0.email=?");
+        StatementCounter.Stats stats = StatementCounter.stop();
+
+        StatementBudgetExceededException exception = assertThrows(StatementBudgetExceededException.class,
+                () -> budget.check("GET", "/api/tasklists", stats));
+
+        assertTrue(exception.getMessage().contains("6 comandos"));
+        assertTrue(exception.getMessage().contains("5x " + TASKS_BY_LIST));
+    }
+
+    @Test
+    void testWithinBudgetOrLogOnly_DoesNotThrow() {
+        StatementCounter.Stats withinBudget = new StatementCounter.Stats(3, 0, Map.of());
+        StatementCounter.Stats tooSlow = new StatementCounter.Stats(1, Duration.ofSeconds(2).toNanos(), Map.of());
+        StatementCounter.Stats tooMany = new StatementCounter.Stats(10, 0, Map.of(TASKS_BY_LIST, 10));
+
+        assertDoesNotThrow(() -> budget.check("GET", "/api/tasklists", withinBudget));
+        assertDoesNotThrow(() -> budget.check("GET", "/api/tasklists", tooSlow));
+
+        properties.setFailOnViolation(false);
+        assertDoesNotThrow(() -> budget.check("GET", "/api/tasklists", tooMany));
+    }
+
+    @Test
+    void testRouteOverride_RaisesLimitOnlyForMatchingRoute() {
+        StatementBudgetProperties.Route bulk = new StatementBudgetProperties.Route();
+        bulk.setPattern("/api/tasks/tasklist/{id}/import");
+        bulk.setMethods(List.of("POST"));
+        bulk.setMaxStatements(50);
+        properties.setRoutes(List.of(bulk));
+        StatementBudget routed = new StatementBudget(properties);
+        StatementCounter.Stats stats = new StatementCounter.Stats(10, 0, Map.of(TASKS_BY_LIST, 10));
+
+        assertDoesNotThrow(() -> routed.check("POST", "/api/tasks/tasklist/{id}/import", stats));
+        StatementBudgetExceededException exception = assertThrows(StatementBudgetExceededException.class,
+                () -> routed.check("GET", "/api/tasks/tasklist/{id}", stats));
+        assertTrue(exception.getMessage().contains("limite 3 comandos"));
+    }
+}
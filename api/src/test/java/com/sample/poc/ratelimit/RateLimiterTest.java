@@ -0,0 +1,84 @@
+package com.sample.poc.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sample.poc.infrastructure.ratelimit.RateLimitProperties;
+import com.sample.poc.infrastructure.ratelimit.RateLimiter;
+import com.sample.poc.infrastructure.ratelimit.TokenBucket;
+
+class RateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+    private RateLimitProperties.Limit limit;
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setIdleTimeout(Duration.ofMinutes(5));
+        limit = new RateLimitProperties.Limit();
+        limit.setCapacity(3);
+        limit.setPeriod(Duration.ofSeconds(3));
+        rateLimiter = new RateLimiter(properties, clock::get);
+    }
+
+    @Test
+    void testBurstUpToCapacity_ThenRejected() {
+        for (int i = 2; i >= 0; i--) {
+            TokenBucket.Probe probe = rateLimiter.tryConsume("user:a", limit);
+            assertTrue(probe.allowed());
+            assertEquals(i, probe.remaining());
+        }
+
+        TokenBucket.Probe rejected = rateLimiter.tryConsume("user:a", limit);
+
+        assertFalse(rejected.allowed());
+        assertEquals(TimeUnit.SECONDS.toNanos(1), rejected.retryAfterNanos());
+    }
+
+    @Test
+    void testRefillsOverTime() {
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryConsume("user:a", limit);
+        }
+
+        advance(Duration.ofSeconds(1));
+
+        assertTrue(rateLimiter.tryConsume("user:a", limit).allowed());
+        assertFalse(rateLimiter.tryConsume("user:a", limit).allowed());
+    }
+
+    @Test
+    void testKeysAreIndependent() {
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryConsume("user:a", limit);
+        }
+
+        assertTrue(rateLimiter.tryConsume("user:b", limit).allowed());
+    }
+
+    @Test
+    void testIdleBucketsEvicted() {
+        rateLimiter.tryConsume("user:a", limit);
+        rateLimiter.tryConsume("user:b", limit);
+        assertEquals(2, rateLimiter.size());
+
+        advance(Duration.ofMinutes(6));
+        rateLimiter.tryConsume("user:c", limit);
+
+        assertEquals(1, rateLimiter.size());
+    }
+
+    private void advance(Duration duration) {
+        clock.addAndGet(duration.toNanos());
+    }
+}
@@ -0,0 +1,132 @@
+package com.sample.poc.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import com.sample.poc.domain.model.User;
+import com.sample.poc.infrastructure.security.AuthenticatedUser;
+import com.sample.poc.infrastructure.security.JwtClaims;
+import com.sample.poc.infrastructure.security.JwtFilter;
+import com.sample.poc.infrastructure.security.JwtUtil;
+import com.sample.poc.infrastructure.security.TokenDenyList;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class JwtFilterTest {
+
+    private static final String[] NO_ADMINS = {};
+
+    private final JwtUtil jwtUtil = mock(JwtUtil.class);
+    private final UserDetailsService userDetailsService = mock(UserDetailsService.class);
+    private final TokenDenyList tokenDenyList = mock(TokenDenyList.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testStatelessPrincipal_NoDatabaseLookup() throws Exception {
+        when(jwtUtil.validateToken("token")).thenReturn(Optional.of(claims(7L)));
+
+        doFilter(new JwtFilter(jwtUtil, userDetailsService, tokenDenyList, true, NO_ADMINS, meterRegistry),
+                "Bearer token");
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        AuthenticatedUser principal = assertInstanceOf(AuthenticatedUser.class, authentication.getPrincipal());
+        assertEquals(7L, principal.id());
+        assertEquals("test@example.com", authentication.getName());
+        verify(userDetailsService, never()).loadUserByUsername(any());
+        verify(jwtUtil, times(1)).validateToken("token");
+    }
+
+    @Test
+    void testDatabasePrincipal_LoadsUser() throws Exception {
+        User user = User.builder().id(7L).email("test@example.com").password("hash").build();
+        when(jwtUtil.validateToken("token")).thenReturn(Optional.of(claims(7L)));
+        when(userDetailsService.loadUserByUsername("test@example.com")).thenReturn(user);
+
+        doFilter(new JwtFilter(jwtUtil, userDetailsService, tokenDenyList, false, NO_ADMINS, meterRegistry),
+                "Bearer token");
+
+        assertEquals(user, SecurityContextHolder.getContext().getAuthentication().getPrincipal());
+    }
+
+    @Test
+    void testLegacyTokenWithoutUserId_FallsBackToDatabase() throws Exception {
+        User user = User.builder().id(7L).email("test@example.com").password("hash").build();
+        when(jwtUtil.validateToken("token")).thenReturn(Optional.of(claims(null)));
+        when(userDetailsService.loadUserByUsername("test@example.com")).thenReturn(user);
+
+        doFilter(new JwtFilter(jwtUtil, userDetailsService, tokenDenyList, true, NO_ADMINS, meterRegistry),
+                "Bearer token");
+
+        assertEquals(user, SecurityContextHolder.getContext().getAuthentication().getPrincipal());
+    }
+
+    @Test
+    void testInvalidToken_NotAuthenticated() throws Exception {
+        when(jwtUtil.validateToken("token")).thenReturn(Optional.empty());
+
+        doFilter(new JwtFilter(jwtUtil, userDetailsService, tokenDenyList, true, NO_ADMINS, meterRegistry),
+                "Bearer token");
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void testRevokedToken_NotAuthenticated() throws Exception {
+        JwtClaims claims = claims(7L);
+        when(jwtUtil.validateToken("token")).thenReturn(Optional.of(claims));
+        when(tokenDenyList.isRevoked(claims)).thenReturn(true);
+
+        doFilter(new JwtFilter(jwtUtil, userDetailsService, tokenDenyList, true, NO_ADMINS, meterRegistry),
+                "Bearer token");
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        assertEquals(1, meterRegistry.get("auth.jwt.validation").tag("outcome", "revoked").timer().count());
+        assertEquals(0, meterRegistry.get("auth.jwt.validation").tag("outcome", "valid").timer().count());
+    }
+
+    @Test
+    void testAdminEmail_GrantsAdminRole() throws Exception {
+        when(jwtUtil.validateToken("token")).thenReturn(Optional.of(claims(7L)));
+
+        doFilter(new JwtFilter(jwtUtil, userDetailsService, tokenDenyList, true,
+                new String[] {"test@example.com"}, meterRegistry), "Bearer token");
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertEquals("ROLE_ADMIN", authentication.getAuthorities().iterator().next().getAuthority());
+    }
+
+    private static JwtClaims claims(Long userId) {
+        Instant now = Instant.now();
+        return new JwtClaims("test@example.com", userId, now.plusSeconds(60), now, "jti-" + userId);
+    }
+
+    private static void doFilter(JwtFilter filter, String authorization) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasklists");
+        request.addHeader("Authorization", authorization);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+    }
+}
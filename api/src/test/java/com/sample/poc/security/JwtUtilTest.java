@@ -0,0 +1,92 @@
+package com.sample.poc.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.sample.poc.infrastructure.security.JwtClaims;
+import com.sample.poc.infrastructure.security.JwtUtil;
+
+class JwtUtilTest {
+
+    private static final String SECRET = "MyVerySecureSecretKeyThatIsAtLeast32CharactersLongForHS256Algorithm";
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = newJwtUtil(SECRET, 86400000L);
+    }
+
+    @Test
+    void testValidateToken_Success() {
+        String token = jwtUtil.generateAccessToken("test@example.com");
+
+        Optional<JwtClaims> claims = jwtUtil.validateToken(token);
+
+        assertTrue(claims.isPresent());
+        assertEquals("test@example.com", claims.get().subject());
+        assertNotNull(claims.get().expiresAt());
+        assertNotNull(claims.get().issuedAt());
+        assertNull(claims.get().userId());
+        assertTrue(claims.get().expiresAt().isAfter(claims.get().issuedAt()));
+    }
+
+    @Test
+    void testValidateToken_WithUserId() {
+        String token = jwtUtil.generateAccessToken("test@example.com", 42L);
+
+        Optional<JwtClaims> claims = jwtUtil.validateToken(token);
+
+        assertTrue(claims.isPresent());
+        assertEquals(42L, claims.get().userId());
+    }
+
+    @Test
+    void testValidateToken_Expired() {
+        JwtUtil expiredJwtUtil = newJwtUtil(SECRET, -1000L);
+        String token = expiredJwtUtil.generateAccessToken("test@example.com");
+
+        assertFalse(jwtUtil.validateToken(token).isPresent());
+        assertFalse(jwtUtil.isTokenValid(token));
+    }
+
+    @Test
+    void testValidateToken_WrongSignature() {
+        JwtUtil otherJwtUtil = newJwtUtil("AnotherVerySecureSecretKeyThatIsAtLeast32CharactersLong", 86400000L);
+        String token = otherJwtUtil.generateAccessToken("test@example.com");
+
+        assertFalse(jwtUtil.validateToken(token).isPresent());
+    }
+
+    @Test
+    void testValidateToken_Malformed() {
+        assertFalse(jwtUtil.validateToken("not-a-token").isPresent());
+        assertFalse(jwtUtil.validateToken("").isPresent());
+        assertFalse(jwtUtil.validateToken(null).isPresent());
+    }
+
+    @Test
+    void testGetEmailFromToken_Success() {
+        String token = jwtUtil.generateAccessToken("test@example.com");
+
+        assertEquals("test@example.com", jwtUtil.getEmailFromToken(token));
+        assertTrue(jwtUtil.isTokenValid(token));
+    }
+
+    private static JwtUtil newJwtUtil(String secret, long expirationMs) {
+        JwtUtil util = new JwtUtil();
+        ReflectionTestUtils.setField(util, "jwtSecret", secret);
+        ReflectionTestUtils.setField(util, "jwtExpirationMs", expirationMs);
+        ReflectionTestUtils.invokeMethod(util, "init");
+        return util;
+    }
+}
@@ -11,6 +11,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Instant;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -25,12 +26,18 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.sample.poc.application.dto.LoginRequest;
+import com.sample.poc.application.dto.RefreshTokenRequest;
 import com.sample.poc.application.dto.RegisterRequest;
 import com.sample.poc.application.service.AuthService;
+import com.sample.poc.application.service.RefreshTokenService;
 import com.sample.poc.domain.model.User;
 import com.sample.poc.domain.repository.UserRepository;
+import com.sample.poc.infrastructure.security.JwtClaims;
 import com.sample.poc.infrastructure.security.JwtUtil;
+import com.sample.poc.infrastructure.security.TokenDenyList;
 import com.sample.poc.presentation.exception.EmailAlreadyExistsException;
+import com.sample.poc.presentation.exception.ResourceNotFoundException;
+import com.sample.poc.presentation.exception.UnauthorizedException;
 
 @ExtendWith(MockitoExtension.class)
 class AuthServiceTest {
@@ -47,6 +54,12 @@ class AuthServiceTest {
     @Mock
     private JwtUtil jwtTokenProvider;
 
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private TokenDenyList tokenDenyList;
+
     @InjectMocks
     private AuthService authService;
 
@@ -99,12 +112,57 @@ class AuthServiceTest {
         when(authentication.getName()).thenReturn(loginRequest.getEmail());
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
                 .thenReturn(authentication);
-        when(jwtTokenProvider.generateAccessToken(loginRequest.getEmail())).thenReturn("accessToken");
+        when(jwtTokenProvider.generateAccessToken(loginRequest.getEmail(), testUser.getId())).thenReturn("accessToken");
         when(jwtTokenProvider.getJwtExpirationMs()).thenReturn(86400000L);
         when(userRepository.findByEmail(testUser.getEmail())).thenReturn(Optional.of(testUser));
+        when(refreshTokenService.issue(testUser))
+                .thenReturn(new RefreshTokenService.IssuedToken("refreshToken", 604800000L));
         var authResponse = authService.login(loginRequest);
 
         assertNotNull(authResponse);
         assertEquals("accessToken", authResponse.getAccessToken());
+        assertEquals("refreshToken", authResponse.getRefreshToken());
+    }
+
+    @Test
+    void testRefresh_RotatesWithoutPasswordCheck() {
+        when(refreshTokenService.rotate("oldRefresh")).thenReturn(new RefreshTokenService.Rotation(testUser,
+                new RefreshTokenService.IssuedToken("newRefresh", 604800000L)));
+        when(jwtTokenProvider.generateAccessToken(testUser.getEmail(), testUser.getId())).thenReturn("accessToken");
+        when(jwtTokenProvider.getJwtExpirationMs()).thenReturn(900000L);
+
+        var authResponse = authService.refresh(new RefreshTokenRequest("oldRefresh"));
+
+        assertEquals("accessToken", authResponse.getAccessToken());
+        assertEquals("newRefresh", authResponse.getRefreshToken());
+        verify(authenticationManager, never()).authenticate(any());
+        verify(passwordEncoder, never()).matches(any(), any());
+    }
+
+    @Test
+    void testRefresh_InvalidToken() {
+        when(refreshTokenService.rotate("bad")).thenThrow(new UnauthorizedException("Refresh token inválido ou expirado"));
+
+        assertThrows(UnauthorizedException.class, () -> authService.refresh(new RefreshTokenRequest("bad")));
+        verify(jwtTokenProvider, never()).generateAccessToken(any(), any());
+    }
+
+    @Test
+    void testLogout_RevokesAccessAndRefreshToken() {
+        Instant expiresAt = Instant.now().plusSeconds(60);
+
+        authService.logout(new JwtClaims(testUser.getEmail(), testUser.getId(), expiresAt, Instant.now(), "jti"),
+                "refreshToken");
+
+        verify(tokenDenyList).revoke("jti", testUser.getId(), expiresAt);
+        verify(refreshTokenService).revoke("refreshToken");
+    }
+
+    @Test
+    void testRevokeUserTokens_UnknownUser() {
+        when(userRepository.existsById(99L)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () -> authService.revokeUserTokens(99L));
+        verify(refreshTokenService, never()).revokeAll(any());
     }
 }
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -23,6 +24,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -30,12 +32,18 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import com.sample.poc.application.dto.CreateTaskListRequest;
 import com.sample.poc.application.dto.TaskListResponse;
 import com.sample.poc.application.dto.UpdateTaskListRequest;
+import com.sample.poc.application.service.TaskListPurgeService;
 import com.sample.poc.application.service.TaskListService;
 import com.sample.poc.domain.model.TaskList;
+import com.sample.poc.domain.model.Tombstone;
 import com.sample.poc.domain.model.User;
 import com.sample.poc.domain.repository.TaskListRepository;
+import com.sample.poc.domain.repository.TaskListSummary;
 import com.sample.poc.domain.repository.TaskRepository;
+import com.sample.poc.domain.repository.TombstoneRepository;
 import com.sample.poc.domain.repository.UserRepository;
+import com.sample.poc.infrastructure.cache.CachedUser;
+import com.sample.poc.infrastructure.cache.UserCache;
 import com.sample.poc.presentation.exception.EmailAlreadyExistsException;
 import com.sample.poc.presentation.exception.ResourceNotFoundException;
 
@@ -52,6 +60,18 @@ public class TaskListServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserCache userCache;
+
+    @Mock
+    private TaskListPurgeService taskListPurgeService;
+
+    @Mock
+    private TombstoneRepository tombstoneRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TaskListService taskListService;
 
@@ -115,19 +135,35 @@ public class TaskListServiceTest {
 
     @Test
     void testGetUserTaskLists_Success() {
-        List<TaskList> taskLists = List.of(testTaskList);
-        when(taskListRepository.findByUser(testUser)).thenReturn(taskLists);
+        TaskListSummary summary = summary(testTaskList, 3L, 1L);
+        when(taskListRepository.findSummariesByUser(testUser)).thenReturn(List.of(summary));
 
         List<TaskListResponse> response = taskListService.getUserTaskLists();
 
         assertNotNull(response);
         assertEquals(1, response.size());
         assertEquals("Work", response.get(0).getName());
+        assertEquals(3, response.get(0).getTaskCount());
+        assertEquals(1, response.get(0).getCompletedCount());
+        verify(taskListRepository, never()).findByUser(any());
+    }
+
+    @Test
+    void testGetUserTaskLists_CachedUser() {
+        when(userCache.get("test@example.com")).thenReturn(Optional.of(CachedUser.fromUser(testUser)));
+        when(userRepository.getReferenceById(1L)).thenReturn(testUser);
+        TaskListSummary summary = summary(testTaskList, 0L, 0L);
+        when(taskListRepository.findSummariesByUser(testUser)).thenReturn(List.of(summary));
+
+        List<TaskListResponse> response = taskListService.getUserTaskLists();
+
+        assertEquals(1, response.size());
+        verify(userRepository, never()).findByEmail(any());
     }
 
     @Test
     void testGetTaskListById_Success() {
-        when(taskListRepository.findByIdAndUser(1L, testUser)).thenReturn(Optional.of(testTaskList));
+        when(taskListRepository.findWithTasksByIdAndUser(1L, testUser)).thenReturn(Optional.of(testTaskList));
 
         TaskListResponse response = taskListService.getTaskListById(1L);
 
@@ -137,7 +173,7 @@ public class TaskListServiceTest {
 
     @Test
     void testGetTaskListById_NotFound() {
-        when(taskListRepository.findByIdAndUser(999L, testUser)).thenReturn(Optional.empty());
+        when(taskListRepository.findWithTasksByIdAndUser(999L, testUser)).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> taskListService.getTaskListById(999L));
     }
@@ -148,7 +184,7 @@ public class TaskListServiceTest {
                 .name("Work Updated")
                 .build();
 
-        when(taskListRepository.findByIdAndUser(1L, testUser)).thenReturn(Optional.of(testTaskList));
+        when(taskListRepository.findWithTasksByIdAndUser(1L, testUser)).thenReturn(Optional.of(testTaskList));
         when(taskListRepository.existsByNameAndUser("Work Updated", testUser)).thenReturn(false);
         when(taskListRepository.save(any(TaskList.class))).thenReturn(testTaskList);
 
@@ -160,14 +196,41 @@ public class TaskListServiceTest {
 
     @Test
     void testDeleteTaskList_Success() {
+        when(taskListRepository.existsByIdAndUser(1L, testUser)).thenReturn(true);
+
         assertDoesNotThrow(() -> taskListService.deleteTaskList(1L));
-        verify(taskListRepository, times(1)).deleteById(1L);
+        verify(taskRepository, times(1)).deleteByTaskListId(1L);
+        verify(taskListRepository, times(1)).deleteListById(1L);
+        verify(taskListRepository, never()).deleteById(any());
+        verify(tombstoneRepository, times(1)).save(argThat(tombstone ->
+                tombstone.getEntityType() == Tombstone.EntityType.TASK_LIST && tombstone.getEntityId() == 1L));
     }
 
     @Test
     void testDeleteTaskList_NotFound() {
-        assertDoesNotThrow(() -> taskListService.deleteTaskList(999L));
-        verify(taskListRepository, times(1)).deleteById(999L);
+        when(taskListRepository.existsByIdAndUser(999L, testUser)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () -> taskListService.deleteTaskList(999L));
+        verify(taskRepository, never()).deleteByTaskListId(any());
+        verify(taskListRepository, never()).deleteListById(any());
+    }
+
+    @Test
+    void testDeleteTaskListAsync_HandsOffToPurge() {
+        when(taskListRepository.existsByIdAndUser(1L, testUser)).thenReturn(true);
+
+        taskListService.deleteTaskListAsync(1L);
+
+        verify(taskListPurgeService, times(1)).purge(1L);
+        verify(taskRepository, never()).deleteByTaskListId(any());
+    }
+
+    @Test
+    void testDeleteTaskListAsync_NotFound() {
+        when(taskListRepository.existsByIdAndUser(999L, testUser)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () -> taskListService.deleteTaskListAsync(999L));
+        verify(taskListPurgeService, never()).purge(any());
     }
 
     @Test
@@ -179,4 +242,13 @@ public class TaskListServiceTest {
         assertThrows(IllegalArgumentException.class, () -> taskListService.createTaskList(nullNameRequest));
         verify(taskListRepository, times(0)).save(any(TaskList.class));
     }
+
+    private static TaskListSummary summary(TaskList taskList, Long taskCount, Long completedCount) {
+        TaskListSummary summary = mock(TaskListSummary.class);
+        when(summary.getId()).thenReturn(taskList.getId());
+        when(summary.getName()).thenReturn(taskList.getName());
+        when(summary.getTaskCount()).thenReturn(taskCount);
+        when(summary.getCompletedCount()).thenReturn(completedCount);
+        return summary;
+    }
 }
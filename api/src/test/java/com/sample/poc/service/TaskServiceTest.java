@@ -2,16 +2,24 @@ package com.sample.poc.service;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,19 +29,34 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import com.sample.poc.application.dto.BatchOperationResult;
+import com.sample.poc.application.dto.BatchTaskOperation;
+import com.sample.poc.application.dto.BatchTaskRequest;
+import com.sample.poc.application.dto.BatchTaskResponse;
 import com.sample.poc.application.dto.CreateTaskRequest;
+import com.sample.poc.application.dto.CursorPage;
+import com.sample.poc.application.dto.TaskCursor;
 import com.sample.poc.application.dto.TaskResponse;
 import com.sample.poc.application.dto.UpdateTaskRequest;
+import com.sample.poc.application.event.ChangeEvent;
 import com.sample.poc.application.service.TaskService;
 import com.sample.poc.domain.model.Task;
+import com.sample.poc.domain.model.Tombstone;
 import com.sample.poc.domain.model.User;
+import com.sample.poc.domain.repository.TaskListRepository;
 import com.sample.poc.domain.repository.TaskRepository;
+import com.sample.poc.domain.repository.TombstoneRepository;
 import com.sample.poc.domain.repository.UserRepository;
+import com.sample.poc.infrastructure.cache.UserCache;
+import com.sample.poc.infrastructure.security.AuthenticatedUser;
+import com.sample.poc.infrastructure.persistence.ChangeSequence;
 import com.sample.poc.presentation.exception.ResourceNotFoundException;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,9 +66,24 @@ class TaskServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private TaskListRepository taskListRepository;
+
+    @Mock
+    private TombstoneRepository tombstoneRepository;
+
+    @Mock
+    private ChangeSequence changeSequence;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserCache userCache;
+
     @InjectMocks
     private TaskService taskService;
 
@@ -68,7 +106,7 @@ class TaskServiceTest {
                 .title("Test Task")
                 .description("Test Description")
                 .completed(false)
-                // .user(testUser)
+                .userId(1L)
                 .build();
 
         createTaskRequest = CreateTaskRequest.builder()
@@ -102,6 +140,22 @@ class TaskServiceTest {
         verify(taskRepository, times(1)).save(any(Task.class));
     }
 
+    @Test
+    void testCreateTask_StatelessPrincipal() {
+        Authentication authentication = new UsernamePasswordAuthenticationToken(
+                new AuthenticatedUser(testUser.getId(), testUser.getEmail()), null, List.of());
+        SecurityContext securityContext = mock(SecurityContext.class);
+        when(securityContext.getAuthentication()).thenReturn(authentication);
+        SecurityContextHolder.setContext(securityContext);
+        when(userRepository.getReferenceById(testUser.getId())).thenReturn(testUser);
+        when(taskRepository.save(any(Task.class))).thenReturn(testTask);
+
+        TaskResponse response = taskService.createTask(createTaskRequest);
+
+        assertNotNull(response);
+        verify(userRepository, never()).findByEmail(any());
+    }
+
     @Test
     void testGetTaskById_Success() {
         when(userRepository.findByEmail(testUser.getEmail())).thenReturn(Optional.of(testUser));
@@ -123,7 +177,7 @@ class TaskServiceTest {
     @Test
     void testUpdateTask_Success() {
         when(userRepository.findByEmail(testUser.getEmail())).thenReturn(Optional.of(testUser));
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        when(taskRepository.findByIdAndUserId(1L, testUser.getId())).thenReturn(Optional.of(testTask));
         when(taskRepository.save(any(Task.class))).thenReturn(testTask);
 
         TaskResponse response = taskService.updateTask(1L, updateTaskRequest);
@@ -134,17 +188,34 @@ class TaskServiceTest {
 
     @Test
     void testDeleteTask_Success() {
-        when(taskRepository.existsById(1L)).thenReturn(true);
+        when(userRepository.findByEmail(testUser.getEmail())).thenReturn(Optional.of(testUser));
+        when(taskRepository.findByIdAndUserId(1L, testUser.getId())).thenReturn(Optional.of(testTask));
 
         assertDoesNotThrow(() -> taskService.deleteTask(1L));
-        verify(taskRepository, times(1)).deleteById(1L);
+        verify(taskRepository, times(1)).delete(testTask);
+        verify(tombstoneRepository, times(1)).save(any(Tombstone.class));
+        verify(eventPublisher, times(1)).publishEvent(
+                ChangeEvent.task(testUser.getId(), ChangeEvent.Action.DELETED, null, 1L));
     }
 
     @Test
     void testDeleteTask_NotFound() {
-        when(taskRepository.existsById(1L)).thenReturn(false);
+        when(userRepository.findByEmail(testUser.getEmail())).thenReturn(Optional.of(testUser));
+        when(taskRepository.findByIdAndUserId(1L, testUser.getId())).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> taskService.deleteTask(1L));
+        verify(taskRepository, never()).delete(any(Task.class));
+        verify(tombstoneRepository, never()).save(any(Tombstone.class));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void testToggleTask_NotOwned() {
+        when(userRepository.findByEmail(testUser.getEmail())).thenReturn(Optional.of(testUser));
+        when(taskRepository.findByIdAndUserId(1L, testUser.getId())).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> taskService.toggleTask(1L, true));
+        verify(taskRepository, never()).save(any(Task.class));
     }
 
     @Test
@@ -159,4 +230,112 @@ class TaskServiceTest {
         assertThrows(IllegalArgumentException.class, () -> taskService.createTask(nullNameRequest));
         verify(taskRepository, times(0)).save(any(Task.class));
     }
+
+    @Test
+    void testFindPageByTaskListId_FirstPage() {
+        when(userRepository.findByEmail(testUser.getEmail())).thenReturn(Optional.of(testUser));
+        when(taskListRepository.existsByIdAndUser(1L, testUser)).thenReturn(true);
+        List<Task> tasks = List.of(task(1L), task(2L), task(3L));
+        when(taskRepository.findPageByTaskListId(1L, Limit.of(3))).thenReturn(tasks);
+
+        CursorPage<TaskResponse> page = taskService.findPageByTaskListId(1L, null, 2);
+
+        assertEquals(2, page.getItems().size());
+        assertTrue(page.isHasMore());
+        assertEquals(2L, TaskCursor.decode(page.getNextCursor()).id());
+    }
+
+    @Test
+    void testFindPageByTaskListId_AfterCursor() {
+        when(userRepository.findByEmail(testUser.getEmail())).thenReturn(Optional.of(testUser));
+        when(taskListRepository.existsByIdAndUser(1L, testUser)).thenReturn(true);
+        Task last = task(2L);
+        List<Task> tasks = List.of(task(3L));
+        when(taskRepository.findPageByTaskListIdAfter(1L, false, last.getCreatedAt(), 2L, Limit.of(3)))
+                .thenReturn(tasks);
+
+        CursorPage<TaskResponse> page = taskService.findPageByTaskListId(1L, TaskCursor.of(last).encode(), 2);
+
+        assertEquals(1, page.getItems().size());
+        assertFalse(page.isHasMore());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void testFindPageByTaskListId_NotOwned() {
+        when(userRepository.findByEmail(testUser.getEmail())).thenReturn(Optional.of(testUser));
+        when(taskListRepository.existsByIdAndUser(1L, testUser)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () -> taskService.findPageByTaskListId(1L, null, 2));
+    }
+
+    @Test
+    void testFindPageByTaskListId_InvalidCursor() {
+        when(userRepository.findByEmail(testUser.getEmail())).thenReturn(Optional.of(testUser));
+        when(taskListRepository.existsByIdAndUser(1L, testUser)).thenReturn(true);
+
+        assertThrows(IllegalArgumentException.class, () -> taskService.findPageByTaskListId(1L, "invalid", 2));
+    }
+
+    @Test
+    void testApplyBatch_SetBasedUpdateAndDelete() {
+        when(userRepository.findByEmail(testUser.getEmail())).thenReturn(Optional.of(testUser));
+        when(taskRepository.findIdsByIdInAndUser(Set.of(1L, 2L, 9L), testUser)).thenReturn(List.of(1L, 2L));
+        when(taskRepository.updateByIdIn(eq(List.of(1L, 2L)), isNull(), isNull(), eq(true), any(), any()))
+                .thenReturn(2);
+        when(taskRepository.findIdsByIdInAndUser(Set.of(3L), testUser)).thenReturn(List.of(3L));
+        when(taskRepository.deleteByIdIn(List.of(3L))).thenReturn(1);
+
+        BatchTaskResponse response = taskService.applyBatch(BatchTaskRequest.builder()
+                .operations(List.of(
+                        BatchTaskOperation.builder().op(BatchTaskOperation.Type.UPDATE)
+                                .ids(List.of(1L, 2L, 9L)).completed(true).build(),
+                        BatchTaskOperation.builder().op(BatchTaskOperation.Type.DELETE)
+                                .ids(List.of(3L)).build()))
+                .build());
+
+        assertEquals(3, response.getAffected());
+        assertEquals(BatchOperationResult.OK, response.getResults().get(0).getStatus());
+        assertEquals(List.of(9L), response.getResults().get(0).getNotFound());
+        assertEquals(1, response.getResults().get(1).getAffected());
+        verify(taskRepository, never()).findById(any());
+        verify(taskRepository, never()).save(any(Task.class));
+    }
+
+    @Test
+    void testApplyBatch_UpdateWithoutFields_Failed() {
+        when(userRepository.findByEmail(testUser.getEmail())).thenReturn(Optional.of(testUser));
+
+        BatchTaskResponse response = taskService.applyBatch(BatchTaskRequest.builder()
+                .operations(List.of(BatchTaskOperation.builder().op(BatchTaskOperation.Type.UPDATE)
+                        .ids(List.of(1L)).build()))
+                .build());
+
+        assertEquals(0, response.getAffected());
+        assertEquals(BatchOperationResult.FAILED, response.getResults().get(0).getStatus());
+        verify(taskRepository, never()).updateByIdIn(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void testApplyBatch_NothingOwned_NoStatement() {
+        when(userRepository.findByEmail(testUser.getEmail())).thenReturn(Optional.of(testUser));
+        when(taskRepository.findIdsByIdInAndUser(Set.of(5L), testUser)).thenReturn(List.of());
+
+        BatchTaskResponse response = taskService.applyBatch(BatchTaskRequest.builder()
+                .operations(List.of(BatchTaskOperation.builder().op(BatchTaskOperation.Type.DELETE)
+                        .ids(List.of(5L)).build()))
+                .build());
+
+        assertEquals(List.of(5L), response.getResults().get(0).getNotFound());
+        verify(taskRepository, never()).deleteByIdIn(any());
+    }
+
+    private static Task task(Long id) {
+        return Task.builder()
+                .id(id)
+                .title("Task " + id)
+                .completed(false)
+                .createdAt(LocalDateTime.of(2025, 1, 1, 10, 0).plusMinutes(id))
+                .build();
+    }
 }
@@ -0,0 +1,88 @@
+package com.sample.poc.sse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.sample.poc.infrastructure.sse.SseConnection;
+
+class SseConnectionTest {
+
+    @Test
+    void testOffer_DeliversInOrder() {
+        RecordingEmitter emitter = new RecordingEmitter();
+        SseConnection connection = new SseConnection(emitter, 10, Runnable::run, () -> { });
+
+        connection.offer(SseEmitter.event().name("a").data("1"));
+        connection.offer(SseEmitter.event().name("b").data("2"));
+
+        assertEquals(List.of("a", "b"), emitter.names());
+    }
+
+    @Test
+    void testOverflow_ReplacesBufferWithResync() {
+        RecordingEmitter emitter = new RecordingEmitter();
+        List<Runnable> pending = new ArrayList<>();
+        Executor paused = pending::add;
+        AtomicInteger overflows = new AtomicInteger();
+        SseConnection connection = new SseConnection(emitter, 2, paused, overflows::incrementAndGet);
+
+        for (int i = 0; i < 5; i++) {
+            connection.offer(SseEmitter.event().name("e" + i).data(i));
+        }
+        pending.forEach(Runnable::run);
+
+        // Only one drain was scheduled while the sender was stalled.
+        assertEquals(1, pending.size());
+        assertEquals(3, overflows.get());
+        assertEquals(List.of(SseConnection.RESYNC_EVENT, "e4"), emitter.names());
+    }
+
+    @Test
+    void testFailedWrite_ClosesConnection() {
+        RecordingEmitter emitter = new RecordingEmitter();
+        emitter.failing = true;
+        SseConnection connection = new SseConnection(emitter, 10, Runnable::run, () -> { });
+
+        connection.offer(SseEmitter.event().name("a").data("1"));
+        connection.offer(SseEmitter.event().name("b").data("2"));
+
+        assertTrue(connection.isClosed());
+        assertEquals(1, emitter.attempts);
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<Set<DataWithMediaType>> sent = new ArrayList<>();
+        private boolean failing;
+        private int attempts;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            attempts++;
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            sent.add(builder.build());
+        }
+
+        List<String> names() {
+            return sent.stream()
+                    .map(parts -> parts.stream()
+                            .map(part -> String.valueOf(part.getData()))
+                            .collect(Collectors.joining()))
+                    .map(text -> text.substring("event:".length(), text.indexOf('\n')))
+                    .toList();
+        }
+    }
+}
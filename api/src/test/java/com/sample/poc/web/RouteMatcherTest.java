@@ -0,0 +1,38 @@
+package com.sample.poc.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.sample.poc.infrastructure.web.RouteMatcher;
+
+class RouteMatcherTest {
+
+    private record Route(String name, String pattern, List<String> methods) {
+    }
+
+    private final RouteMatcher<Route> matcher = new RouteMatcher<>(List.of(
+            new Route("import", "/api/tasks/tasklist/{id}/import", List.of("POST")),
+            new Route("tasks", "/api/tasks/**", List.of())),
+            Route::methods, Route::pattern);
+
+    @Test
+    void testMatch_FirstMatchingRouteWins() {
+        assertEquals("import", matcher.match("POST", "/api/tasks/tasklist/7/import").orElseThrow().name());
+        assertEquals("tasks", matcher.match("GET", "/api/tasks/tasklist/7").orElseThrow().name());
+    }
+
+    @Test
+    void testMatch_MethodIsCaseInsensitive() {
+        assertEquals("import", matcher.match("post", "/api/tasks/tasklist/7/import").orElseThrow().name());
+    }
+
+    @Test
+    void testMatch_MethodOrPathMismatch_NoRoute() {
+        assertEquals("tasks", matcher.match("GET", "/api/tasks/tasklist/7/import").orElseThrow().name());
+        assertFalse(matcher.match("POST", "/api/tasklists/7").isPresent());
+    }
+}
@@ -0,0 +1,102 @@
+import { describe, it, expect, beforeEach, afterEach, vi } from "vitest";
+import { api, onSessionExpired } from "../services/api";
+
+const STORAGE_KEY = "user_v1";
+
+function jsonResponse(status: number, body: unknown) {
+  return new Response(body === undefined ? "" : JSON.stringify(body), {
+    status,
+    headers: { "Content-Type": "application/json" },
+  });
+}
+
+function storeSession(session: Record<string, unknown>) {
+  localStorage.setItem(
+    STORAGE_KEY,
+    JSON.stringify({ user: { email: "a@b.com" }, ...session })
+  );
+}
+
+function stored() {
+  return JSON.parse(localStorage.getItem(STORAGE_KEY) || "{}");
+}
+
+describe("api token refresh", () => {
+  let fetchMock: ReturnType<typeof vi.fn>;
+
+  beforeEach(() => {
+    localStorage.clear();
+    fetchMock = vi.fn();
+    vi.stubGlobal("fetch", fetchMock);
+  });
+
+  afterEach(() => {
+    vi.unstubAllGlobals();
+  });
+
+  it("refreshes once and retries when the access token is rejected", async () => {
+    storeSession({ token: "old", refreshToken: "r1", expiresAt: Date.now() + 600_000 });
+    fetchMock
+      .mockResolvedValueOnce(jsonResponse(403, { message: "Forbidden" }))
+      .mockResolvedValueOnce(
+        jsonResponse(200, { accessToken: "new", expiresIn: 900_000, refreshToken: "r2" })
+      )
+      .mockResolvedValueOnce(jsonResponse(200, []));
+
+    await expect(api.list.getAll()).resolves.toEqual([]);
+
+    expect(fetchMock).toHaveBeenCalledTimes(3);
+    expect(fetchMock.mock.calls[1]![0]).toContain("/auth/refresh");
+    expect(JSON.parse(fetchMock.mock.calls[1]![1].body)).toEqual({ refreshToken: "r1" });
+    expect(fetchMock.mock.calls[2]![1].headers.Authorization).toBe("Bearer new");
+    expect(stored().token).toBe("new");
+    expect(stored().refreshToken).toBe("r2");
+    expect(stored().user.email).toBe("a@b.com");
+  });
+
+  it("refreshes before the request when the token is about to expire", async () => {
+    storeSession({ token: "old", refreshToken: "r1", expiresAt: Date.now() + 1_000 });
+    fetchMock
+      .mockResolvedValueOnce(
+        jsonResponse(200, { accessToken: "new", expiresIn: 900_000, refreshToken: "r2" })
+      )
+      .mockResolvedValueOnce(jsonResponse(200, []));
+
+    await api.list.getAll();
+
+    expect(fetchMock).toHaveBeenCalledTimes(2);
+    expect(fetchMock.mock.calls[0]![0]).toContain("/auth/refresh");
+    expect(fetchMock.mock.calls[1]![1].headers.Authorization).toBe("Bearer new");
+  });
+
+  it("shares one refresh between concurrent requests", async () => {
+    storeSession({ token: "old", refreshToken: "r1", expiresAt: Date.now() - 1 });
+    fetchMock.mockImplementation((url: string) =>
+      Promise.resolve(
+        url.endsWith("/auth/refresh")
+          ? jsonResponse(200, { accessToken: "new", expiresIn: 900_000, refreshToken: "r2" })
+          : jsonResponse(200, [])
+      )
+    );
+
+    await Promise.all([api.list.getAll(), api.list.getAll()]);
+
+    const refreshes = fetchMock.mock.calls.filter(([url]) => String(url).endsWith("/auth/refresh"));
+    expect(refreshes).toHaveLength(1);
+  });
+
+  it("ends the session when the refresh token is rejected", async () => {
+    storeSession({ token: "old", refreshToken: "r1", expiresAt: Date.now() + 600_000 });
+    const expired = vi.fn();
+    onSessionExpired(expired);
+    fetchMock
+      .mockResolvedValueOnce(jsonResponse(403, { message: "Forbidden" }))
+      .mockResolvedValueOnce(jsonResponse(401, { message: "Refresh token inválido" }));
+
+    await expect(api.list.getAll()).rejects.toMatchObject({ status: 403 });
+
+    expect(fetchMock).toHaveBeenCalledTimes(2);
+    expect(expired).toHaveBeenCalled();
+    expect(localStorage.getItem(STORAGE_KEY)).toBeNull();
+  });
+});
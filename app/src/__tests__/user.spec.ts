@@ -1,4 +1,4 @@
-import { describe, it, expect, beforeEach } from "vitest";
+import { describe, it, expect, beforeEach, afterEach, vi } from "vitest";
 import { setActivePinia, createPinia } from "pinia";
 import { useUserStore } from "../stores/user";
 
@@ -10,6 +10,10 @@ describe("useUserStore", () => {
     localStorage.clear();
   });
 
+  afterEach(() => {
+    vi.unstubAllGlobals();
+  });
+
   it("login stores user and token and persists", async () => {
     const store = useUserStore();
     await store.login({ email: "a@b.com", password: "p", name: "Alice" });
@@ -33,6 +37,32 @@ describe("useUserStore", () => {
     expect(localStorage.getItem(STORAGE_KEY)).toBeNull();
   });
 
+  it("login keeps the refresh token and access token expiry", async () => {
+    vi.stubGlobal(
+      "fetch",
+      vi.fn().mockResolvedValue(
+        new Response(
+          JSON.stringify({
+            name: "Alice",
+            accessToken: "access",
+            expiresIn: 900000,
+            refreshToken: "refresh",
+            refreshExpiresIn: 604800000,
+          }),
+          { status: 200 }
+        )
+      )
+    );
+    const store = useUserStore();
+    await store.login({ email: "a@b.com", password: "p" });
+
+    expect(store.refreshToken).toBe("refresh");
+    expect(store.expiresAt).toBeGreaterThan(Date.now());
+    const parsed = JSON.parse(localStorage.getItem(STORAGE_KEY) as string);
+    expect(parsed.refreshToken).toBe("refresh");
+    expect(parsed.expiresAt).toBe(store.expiresAt);
+  });
+
   it("init loads persisted session", () => {
     const payload = {
       user: { id: "1", name: "Bob", email: "bob@example.com" },
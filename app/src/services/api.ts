@@ -3,6 +3,10 @@ import type { Task } from "@/stores/todos";
 const API_BASE_URL =
   import.meta.env.VITE_API_URL || "http://localhost:8082/api";
 
+const STORAGE_KEY = "user_v1";
+// Refresh this long before the access token expires, to absorb clock skew.
+const REFRESH_MARGIN_MS = 30_000;
+
 export interface LoginRequest {
   email: string;
   password: string;
@@ -13,6 +17,9 @@ export interface LoginResponse {
   email: string;
   name?: string;
   accessToken: string;
+  expiresIn: number;
+  refreshToken?: string;
+  refreshExpiresIn?: number;
 }
 
 export interface TaskListRequest {
@@ -35,15 +42,97 @@ export class ApiError extends Error {
   }
 }
 
+type StoredSession = {
+  token?: string | null;
+  refreshToken?: string | null;
+  expiresAt?: number | null;
+  [key: string]: unknown;
+};
+
+function readSession(): StoredSession {
+  try {
+    return JSON.parse(localStorage.getItem(STORAGE_KEY) || "{}");
+  } catch {
+    return {};
+  }
+}
+
+let sessionExpiredHandler: (() => void) | null = null;
+
+/** Called when the session can no longer be refreshed and the user must log in again. */
+export function onSessionExpired(handler: () => void) {
+  sessionExpiredHandler = handler;
+}
+
+let refreshing: Promise<boolean> | null = null;
+
+/**
+ * Exchanges the stored refresh token for a new access token (and a rotated
+ * refresh token). Concurrent callers share one request, since the old refresh
+ * token is single-use.
+ */
+function refreshSession(): Promise<boolean> {
+  if (!refreshing) {
+    refreshing = doRefresh().finally(() => {
+      refreshing = null;
+    });
+  }
+  return refreshing;
+}
+
+async function doRefresh(): Promise<boolean> {
+  const session = readSession();
+  if (!session.refreshToken) {
+    return false;
+  }
+
+  const response = await fetch(`${API_BASE_URL}/auth/refresh`, {
+    method: "POST",
+    headers: { "Content-Type": "application/json", Accept: "*/*" },
+    body: JSON.stringify({ refreshToken: session.refreshToken }),
+  }).catch(() => null);
+
+  if (!response || !response.ok) {
+    if (response) {
+      // The refresh token was rejected (expired or revoked): the session is over.
+      localStorage.removeItem(STORAGE_KEY);
+      sessionExpiredHandler?.();
+    }
+    return false;
+  }
+
+  const body = (await response.json()) as LoginResponse;
+  localStorage.setItem(
+    STORAGE_KEY,
+    JSON.stringify({
+      ...readSession(),
+      token: body.accessToken,
+      refreshToken: body.refreshToken ?? session.refreshToken,
+      expiresAt: Date.now() + body.expiresIn,
+    })
+  );
+  return true;
+}
+
 async function request<T>(
   endpoint: string,
-  options: RequestInit = {}
+  options: RequestInit = {},
+  retried = false
 ): Promise<T> {
   const url = `${API_BASE_URL}${endpoint}`;
+  const isAuthEndpoint = endpoint.startsWith("/auth/");
 
-  const token = localStorage.getItem("user_v1")
-    ? JSON.parse(localStorage.getItem("user_v1") || "{}").token
-    : null;
+  let session = readSession();
+  if (
+    !isAuthEndpoint &&
+    session.refreshToken &&
+    session.expiresAt &&
+    Date.now() >= session.expiresAt - REFRESH_MARGIN_MS
+  ) {
+    await refreshSession();
+    session = readSession();
+  }
+  const token = session.token ?? null;
 
   const headers: Record<string, string> = {
     "Content-Type": "application/json",
@@ -63,6 +152,17 @@ async function request<T>(
     headers,
   });
 
+  // The API answers an expired or revoked access token with 401/403: refresh once and retry.
+  if (
+    (response.status === 401 || response.status === 403) &&
+    !retried &&
+    !isAuthEndpoint &&
+    session.refreshToken &&
+    (await refreshSession())
+  ) {
+    return request<T>(endpoint, options, true);
+  }
+
   if (!response.ok) {
     const error = await response
       .json()
@@ -1,5 +1,5 @@
 import { defineStore } from "pinia";
-import { api } from "../services/api";
+import { api, onSessionExpired } from "../services/api";
 
 export type User = {
   // id: string;
@@ -10,6 +10,9 @@ export type User = {
 type State = {
   user: User | null;
   token: string | null;
+  refreshToken: string | null;
+  // Epoch millis when the access token expires; api.ts refreshes it shortly before.
+  expiresAt: number | null;
 };
 
 const STORAGE_KEY = "user_v1";
@@ -18,25 +21,37 @@ export const useUserStore = defineStore("user", {
   state: (): State => ({
     user: null,
     token: null,
+    refreshToken: null,
+    expiresAt: null,
   }),
   actions: {
     init() {
+      onSessionExpired(() => this.reset());
       try {
         const raw = localStorage.getItem(STORAGE_KEY);
         if (raw) {
           const parsed = JSON.parse(raw);
           this.user = parsed.user ?? null;
           this.token = parsed.token ?? null;
+          this.refreshToken = parsed.refreshToken ?? null;
+          this.expiresAt = parsed.expiresAt ?? null;
         }
       } catch {
-        this.user = null;
-        this.token = null;
+        this.reset();
       }
     },
+    reset() {
+      this.user = null;
+      this.token = null;
+      this.refreshToken = null;
+      this.expiresAt = null;
+    },
     persist() {
       const payload = {
         user: this.user,
         token: this.token,
+        refreshToken: this.refreshToken,
+        expiresAt: this.expiresAt,
       };
       localStorage.setItem(STORAGE_KEY, JSON.stringify(payload));
     },
@@ -61,6 +76,10 @@ export const useUserStore = defineStore("user", {
         };
 
         this.token = response.accessToken;
+        this.refreshToken = response.refreshToken ?? null;
+        this.expiresAt = response.expiresIn
+          ? Date.now() + response.expiresIn
+          : null;
         this.persist();
         return true;
       } catch (error) {
@@ -100,12 +119,10 @@ export const useUserStore = defineStore("user", {
       try {
         // await api.auth.logout();
       } catch {
-        this.user = null;
-        this.token = null;
+        this.reset();
       }
 
-      this.user = null;
-      this.token = null;
+      this.reset();
       this.clearPersist();
     },
   },